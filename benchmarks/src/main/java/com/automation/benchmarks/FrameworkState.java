@@ -0,0 +1,28 @@
+package com.automation.benchmarks;
+
+import com.automation.clients.ApiClient;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Boots the framework against the embedded loopback stub once per fork. The configuration is read on first use,
+ * so the environment and log mode are pinned through system properties before {@link ApiClient} is touched.
+ */
+@State(Scope.Benchmark)
+public class FrameworkState {
+
+    @Param({"failure-only", "none"})
+    public String logMode;
+
+    public ApiClient apiClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("env", System.getProperty("env", "bench"));
+        System.setProperty("api.log.mode", logMode);
+        apiClient = ApiClient.getInstance();
+    }
+}
@@ -0,0 +1,84 @@
+package com.automation.benchmarks;
+
+import com.automation.models.UserRequest;
+import com.automation.payloads.PayloadSerializer;
+import com.automation.payloads.Payloads;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.datatable.DataTableTypeRegistry;
+import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request body construction as done by {@code UserServiceController.createUser}: {@code DataTable.asMaps}
+ * followed by {@code String.format}, compared with the pre-compiled payload templates and cached Jackson writers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PayloadBenchmark {
+    private static final String USER_TEMPLATE = "{\"name\":\"%s\", \"job\":\"%s\"}";
+
+    private DataTable dataTable;
+    private ObjectWriter writer;
+    private Map<String, String> row;
+
+    @Setup
+    public void setUp() {
+        DataTableTypeRegistryTableConverter converter =
+                new DataTableTypeRegistryTableConverter(new DataTableTypeRegistry(Locale.ENGLISH));
+        dataTable = DataTable.create(List.of(List.of("name", "job"), List.of("morpheus", "leader")), converter);
+        writer = new ObjectMapper().writerFor(Map.class);
+        row = Map.of("name", "morpheus", "job", "leader");
+    }
+
+    @Benchmark
+    public List<Map<String, String>> dataTableAsMaps() {
+        return dataTable.asMaps(String.class, String.class);
+    }
+
+    @Benchmark
+    public String stringFormatPayload() {
+        return String.format(USER_TEMPLATE, row.get("name"), row.get("job"));
+    }
+
+    @Benchmark
+    public String jacksonPayload() throws JsonProcessingException {
+        return writer.writeValueAsString(row);
+    }
+
+    @Benchmark
+    public byte[] compiledTemplatePayload() {
+        return Payloads.user(row.get("name"), row.get("job"));
+    }
+
+    @Benchmark
+    public byte[] cachedWriterPayload() {
+        return PayloadSerializer.toBytes(new UserRequest(row.get("name"), row.get("job")));
+    }
+
+    @Benchmark
+    public String dataTableToPayload() {
+        Map<String, String> data = dataTable.asMaps(String.class, String.class).get(0);
+        return String.format(USER_TEMPLATE, data.get("name"), data.get("job"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.automation.benchmarks;
+
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code RestAssured.given().spec(requestSpec)} in {@code ApiClient.getRequestSpec}, paid on every call.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.level=WARN")
+public class RequestSpecBenchmark {
+
+    @Benchmark
+    public RequestSpecification mergeRequestSpec(FrameworkState state) {
+        return state.apiClient.getRequestSpec();
+    }
+
+    @Benchmark
+    public RequestSpecification mergeRequestSpecWithBody(FrameworkState state) {
+        return state.apiClient.getRequestSpec().body("{\"name\":\"morpheus\", \"job\":\"leader\"}");
+    }
+}
@@ -0,0 +1,66 @@
+package com.automation.benchmarks;
+
+import com.automation.assertions.JsonAssertions;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asserting three fields of a fresh single-user response: GPath via {@code response.jsonPath()} versus the
+ * parse-once Jackson tree used by {@link JsonAssertions}. A new response is built per operation in both cases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseParsingBenchmark {
+    private static final String SINGLE_USER = "{\"data\":{\"id\":2,\"email\":\"janet.weaver@reqres.in\","
+            + "\"first_name\":\"Janet\",\"last_name\":\"Weaver\",\"avatar\":\"https://reqres.in/img/faces/2-image.jpg\"},"
+            + "\"support\":{\"url\":\"https://contentcaddy.io\",\"text\":\"Tired of writing endless social media content?\"}}";
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = SINGLE_USER.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Response newResponse() {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=utf-8")
+                .setBody(body)
+                .build();
+    }
+
+    @Benchmark
+    public void gpathJsonPath(Blackhole blackhole) {
+        Response response = newResponse();
+        blackhole.consume(response.jsonPath().getInt("data.id"));
+        blackhole.consume(response.jsonPath().getString("data.email"));
+        blackhole.consume(response.jsonPath().getString("data.first_name"));
+    }
+
+    @Benchmark
+    public void cachedJacksonTree(Blackhole blackhole) {
+        Response response = newResponse();
+        blackhole.consume(JsonAssertions.intAt(response, "data.id"));
+        blackhole.consume(JsonAssertions.stringAt(response, "data.email"));
+        blackhole.consume(JsonAssertions.stringAt(response, "data.first_name"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.automation.benchmarks;
+
+import com.automation.clients.UserServiceController;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full calls through {@link UserServiceController} against the embedded stub on loopback, so the result is
+ * dominated by framework overhead (spec merge, filters, client) rather than the network.
+ * Sample mode reports the latency distribution alongside throughput.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.level=WARN")
+public class RoundTripBenchmark {
+
+    @Benchmark
+    public Response getSingleUser(FrameworkState state) {
+        return UserServiceController.getUser("users/2");
+    }
+
+    @Benchmark
+    public Response createUser(FrameworkState state) {
+        return UserServiceController.createUser("POST", "morpheus", "leader");
+    }
+}
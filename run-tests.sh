@@ -17,6 +17,8 @@ ENVIRONMENT="dev"
 TEST_SUITE="smoke"
 PARALLEL="false"
 GENERATE_REPORTS="true"
+SHARDS="1"
+RUN_MODE="all"
 
 # Function to display usage
 usage() {
@@ -25,16 +27,20 @@ usage() {
     echo "Usage: $0 [OPTIONS]"
     echo ""
     echo "Options:"
-    echo "  -e, --env ENVIRONMENT     Environment to run tests against (dev, qa, prod)"
-    echo "  -s, --suite TEST_SUITE    Test suite to execute (smoke, regression, performance, all)"
+    echo "  -e, --env ENVIRONMENT     Environment to run tests against (dev, qa, prod, stub)"
+    echo "  -s, --suite TEST_SUITE    Test suite to execute (smoke, regression, cucumber, performance, all)"
     echo "  -p, --parallel           Enable parallel execution"
     echo "  -r, --reports            Generate reports (default: true)"
+    echo "  -n, --shards N           Split Cucumber scenarios into N duration-balanced shards run in parallel JVMs"
+    echo "  -m, --run-mode MODE      Cucumber scenarios to run: all, failed-only, failed-first (default: all)"
     echo "  -h, --help               Display this help message"
     echo ""
     echo "Examples:"
     echo "  $0 --env qa --suite smoke"
     echo "  $0 --env prod --suite regression --parallel"
     echo "  $0 --suite all --parallel --reports"
+    echo "  $0 --env stub --suite cucumber --shards 4"
+    echo "  $0 --env stub --suite cucumber --run-mode failed-only"
 }
 
 # Parse command line arguments
@@ -56,6 +62,14 @@ while [[ $# -gt 0 ]]; do
             GENERATE_REPORTS="$2"
             shift 2
             ;;
+        -n|--shards)
+            SHARDS="$2"
+            shift 2
+            ;;
+        -m|--run-mode)
+            RUN_MODE="$2"
+            shift 2
+            ;;
         -h|--help)
             usage
             exit 0
@@ -82,7 +96,7 @@ echo -e "${BLUE}Compiling project...${NC}"
 mvn compile test-compile
 
 # Prepare Maven options
-MAVEN_OPTS="-Denv=$ENVIRONMENT"
+MAVEN_OPTS="-Denv=$ENVIRONMENT -Drun.mode=$RUN_MODE"
 if [ "$PARALLEL" = "true" ]; then
     MAVEN_OPTS="$MAVEN_OPTS -Dparallel=methods -DthreadCount=5"
 fi
@@ -103,6 +117,32 @@ case $TEST_SUITE in
         echo -e "${GREEN}Running Performance Tests...${NC}"
         mvn test $MAVEN_OPTS -Dgroups=performance
         ;;
+    "cucumber")
+        if [ "$SHARDS" -gt 1 ]; then
+            echo -e "${GREEN}Running Cucumber BDD Tests in $SHARDS shards...${NC}"
+            # Compile once up front; the shard JVMs then only run surefire against the same classes
+            mvn -q test-compile $MAVEN_OPTS || exit 1
+            PIDS=()
+            for ((i = 0; i < SHARDS; i++)); do
+                mvn -q surefire:test $MAVEN_OPTS -Dshard.index=$i -Dshard.total=$SHARDS \
+                    -DreportsDirectory=target/surefire-reports/shard-$i > target/shard-$i.log 2>&1 &
+                PIDS+=($!)
+            done
+            FAILED=0
+            for pid in "${PIDS[@]}"; do
+                wait "$pid" || FAILED=1
+            done
+            mvn -q exec:java -Dexec.mainClass=com.automation.sharding.CucumberJsonMerger \
+                -Dexec.args="--expect $SHARDS target/cucumber.json target/cucumber-shards" || FAILED=1
+            if [ "$FAILED" -ne 0 ]; then
+                echo -e "${RED}At least one shard failed, see target/shard-*.log${NC}"
+                exit 1
+            fi
+        else
+            echo -e "${GREEN}Running Cucumber BDD Tests...${NC}"
+            mvn test $MAVEN_OPTS
+        fi
+        ;;
     "all")
         echo -e "${GREEN}Running All Test Suites...${NC}"
         mvn test $MAVEN_OPTS -Dgroups=smoke
@@ -0,0 +1,138 @@
+package com.automation.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assertions over the cached Jackson tree of a response, using compiled {@link JsonPathExpression}s.
+ * Values are rendered the way GPath's {@code getString} renders them, so existing expectations keep working.
+ */
+public class JsonAssertions {
+    private static final Map<List<String>, PrefixNode> PATH_SETS = new ConcurrentHashMap<>();
+
+    private JsonAssertions() {
+    }
+
+    public static JsonNode valueAt(Response response, String path) {
+        return JsonPathExpression.compile(path).evaluate(JsonTreeCache.treeOf(response));
+    }
+
+    public static String stringAt(Response response, String path) {
+        return asString(valueAt(response, path));
+    }
+
+    /**
+     * Returns the integer at {@code path}, or {@code null} when the field is missing or JSON null, so callers
+     * must check for null before unboxing. Fails with an {@link AssertionError} when the value is neither an
+     * integer nor text holding one.
+     */
+    public static Integer intAt(Response response, String path) {
+        JsonNode value = valueAt(response, path);
+        if (value.isMissingNode() || value.isNull()) {
+            return null;
+        }
+        if (value.isIntegralNumber() && value.canConvertToInt()) {
+            return value.intValue();
+        }
+        if (value.isTextual()) {
+            try {
+                return Integer.valueOf(value.textValue().trim());
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new AssertionError("Expected an integer at " + path + " but found " + value);
+    }
+
+    /**
+     * Checks every {@code path -> expected value} pair in a single walk of the tree (shared prefixes are
+     * resolved once) and reports all mismatches together.
+     */
+    public static void assertFields(Response response, Map<String, String> expected) {
+        List<JsonPathExpression> paths = new ArrayList<>(expected.size());
+        expected.keySet().forEach(path -> paths.add(JsonPathExpression.compile(path)));
+        JsonNode[] actual = evaluateAll(JsonTreeCache.treeOf(response), paths);
+
+        StringBuilder mismatches = new StringBuilder();
+        int i = 0;
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            String actualValue = asString(actual[i++]);
+            if (!Objects.equals(actualValue, entry.getValue())) {
+                mismatches.append(String.format("%n  %s: expected [%s] but found [%s]", entry.getKey(), entry.getValue(), actualValue));
+            }
+        }
+        if (mismatches.length() > 0) {
+            throw new AssertionError("Response fields did not match:" + mismatches);
+        }
+    }
+
+    /**
+     * Evaluates all paths in one pass; results are returned in the order of {@code paths}.
+     * The prefix tree for a given list of paths is built once and cached.
+     */
+    public static JsonNode[] evaluateAll(JsonNode root, List<JsonPathExpression> paths) {
+        List<String> sources = new ArrayList<>(paths.size());
+        paths.forEach(path -> sources.add(path.getSource()));
+        PrefixNode trie = PATH_SETS.computeIfAbsent(sources, key -> buildPrefixTree(paths));
+        JsonNode[] results = new JsonNode[paths.size()];
+        walk(root, trie, results);
+        return results;
+    }
+
+    private static PrefixNode buildPrefixTree(List<JsonPathExpression> paths) {
+        PrefixNode trie = new PrefixNode();
+        for (int i = 0; i < paths.size(); i++) {
+            PrefixNode node = trie;
+            for (JsonPathExpression.Segment segment : paths.get(i).getSegments()) {
+                node = node.children.computeIfAbsent(segment.key(), key -> new PrefixNode(segment));
+            }
+            node.resultIndexes.add(i);
+        }
+        return trie;
+    }
+
+    private static void walk(JsonNode value, PrefixNode node, JsonNode[] results) {
+        for (int index : node.resultIndexes) {
+            results[index] = value;
+        }
+        for (PrefixNode child : node.children.values()) {
+            walk(value.isMissingNode() ? value : child.segment.apply(value), child, results);
+        }
+    }
+
+    static String asString(JsonNode value) {
+        if (value == null || value.isMissingNode() || value.isNull()) {
+            return null;
+        }
+        if (value.isValueNode()) {
+            return value.asText();
+        }
+        if (value.isArray()) {
+            List<String> items = new ArrayList<>(value.size());
+            value.forEach(item -> items.add(asString(item)));
+            return items.toString();
+        }
+        return value.toString();
+    }
+
+    private static class PrefixNode {
+        private final JsonPathExpression.Segment segment;
+        private final Map<String, PrefixNode> children = new LinkedHashMap<>();
+        private final List<Integer> resultIndexes = new ArrayList<>(1);
+
+        PrefixNode() {
+            this(null);
+        }
+
+        PrefixNode(JsonPathExpression.Segment segment) {
+            this.segment = segment;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.automation.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled dotted path such as {@code data.email} or {@code data[3].first_name}, evaluated against a Jackson tree.
+ * Like GPath, a field step applied to an array collects that field from every element.
+ * Expressions are compiled once and cached by their source text.
+ */
+public class JsonPathExpression {
+    private static final Map<String, JsonPathExpression> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final Segment[] segments;
+
+    private JsonPathExpression(String source, Segment[] segments) {
+        this.source = source;
+        this.segments = segments;
+    }
+
+    public static JsonPathExpression compile(String path) {
+        return CACHE.computeIfAbsent(path, JsonPathExpression::parse);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    Segment[] getSegments() {
+        return segments;
+    }
+
+    public JsonNode evaluate(JsonNode root) {
+        JsonNode current = root;
+        for (Segment segment : segments) {
+            current = segment.apply(current);
+            if (current.isMissingNode()) {
+                break;
+            }
+        }
+        return current;
+    }
+
+    private static JsonPathExpression parse(String path) {
+        List<Segment> segments = new ArrayList<>();
+        for (String part : path.split("\\.")) {
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Empty segment in JSON path: " + path);
+            }
+            int bracket = part.indexOf('[');
+            String field = bracket < 0 ? part : part.substring(0, bracket);
+            if (!field.isEmpty()) {
+                segments.add(new Segment(field, -1));
+            }
+            while (bracket >= 0) {
+                int close = part.indexOf(']', bracket);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed index in JSON path: " + path);
+                }
+                segments.add(new Segment(null, Integer.parseInt(part.substring(bracket + 1, close).trim())));
+                bracket = part.indexOf('[', close);
+            }
+        }
+        return new JsonPathExpression(path, segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * One step of a path: either a field name or an array index (negative indexes count from the end).
+     */
+    record Segment(String field, int index) {
+
+        JsonNode apply(JsonNode node) {
+            if (field == null) {
+                if (!node.isArray()) {
+                    return MissingNode.getInstance();
+                }
+                int position = index < 0 ? node.size() + index : index;
+                JsonNode element = node.get(position);
+                return element == null ? MissingNode.getInstance() : element;
+            }
+            if (node.isArray()) {
+                ArrayNode collected = JsonNodeFactory.instance.arrayNode(node.size());
+                for (JsonNode element : node) {
+                    JsonNode value = element.get(field);
+                    if (value != null) {
+                        collected.add(value);
+                    }
+                }
+                return collected;
+            }
+            JsonNode value = node.get(field);
+            return value == null ? MissingNode.getInstance() : value;
+        }
+
+        String key() {
+            return field != null ? field : "[" + index + "]";
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.automation.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+
+/**
+ * Parses a response body into a Jackson tree once and hands the same tree to every later assertion on that response.
+ * Steps on a thread assert against one response at a time, so the thread keeps just its most recent tree.
+ */
+public class JsonTreeCache {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ThreadLocal<Entry> LAST = new ThreadLocal<>();
+
+    private JsonTreeCache() {
+    }
+
+    public static JsonNode treeOf(Response response) {
+        Entry entry = LAST.get();
+        if (entry != null && entry.response == response) {
+            return entry.tree;
+        }
+        JsonNode tree = parse(response.asByteArray());
+        LAST.set(new Entry(response, tree));
+        return tree;
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    private static JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private record Entry(Response response, JsonNode tree) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.automation.assertions;
+
+import com.automation.utils.LogManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Loads and compiles every JSON schema under the classpath {@code schemas/} directory once, then validates
+ * response bodies straight from their cached Jackson tree. Validation time is aggregated per schema.
+ */
+public class SchemaRegistry {
+    private static final String SCHEMA_ROOT = "schemas";
+    private static volatile boolean loaded;
+
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Timing> timings = new ConcurrentSkipListMap<>();
+
+    private SchemaRegistry() {
+        long started = System.nanoTime();
+        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        try {
+            Enumeration<URL> roots = getClass().getClassLoader().getResources(SCHEMA_ROOT);
+            for (URL root : Collections.list(roots)) {
+                loadAll(factory, root);
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Error loading JSON schemas: " + e.getMessage(), e);
+        }
+        LogManager.info("Compiled {} JSON schemas in {} ms", schemas.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        loaded = true;
+    }
+
+    private static class Holder {
+        private static final SchemaRegistry INSTANCE = new SchemaRegistry();
+    }
+
+    public static SchemaRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Whether the schemas have been compiled yet, without triggering it.
+     */
+    public static boolean isLoaded() {
+        return loaded;
+    }
+
+    private void loadAll(JsonSchemaFactory factory, URL root) throws IOException, URISyntaxException {
+        URI uri = root.toURI();
+        if ("jar".equals(uri.getScheme())) {
+            try {
+                FileSystems.getFileSystem(uri);
+            } catch (FileSystemNotFoundException e) {
+                FileSystems.newFileSystem(uri, Map.of());
+            }
+        }
+        load(factory, Paths.get(uri));
+    }
+
+    private void load(JsonSchemaFactory factory, Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".json"))::iterator) {
+                String name = directory.relativize(file).toString().replace('\\', '/');
+                try (InputStream in = Files.newInputStream(file)) {
+                    schemas.put(name, factory.getJsonSchema(JsonTreeCache.mapper().readTree(in)));
+                } catch (ProcessingException e) {
+                    throw new IllegalStateException("Invalid JSON schema " + name + ": " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates the response body against a schema such as {@code post-schema.json}; the {@code .json}
+     * suffix may be omitted. Throws an AssertionError listing every violation.
+     */
+    public void validate(Response response, String schemaName) {
+        String name = schemaName.endsWith(".json") ? schemaName : schemaName + ".json";
+        JsonSchema schema = schemas.get(name);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown JSON schema '" + name + "'; loaded: " + schemas.keySet());
+        }
+        JsonNode body = JsonTreeCache.treeOf(response);
+        Timing timing = timings.computeIfAbsent(name, key -> new Timing());
+        long started = System.nanoTime();
+        ProcessingReport report;
+        try {
+            report = schema.validate(body);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Unable to validate against " + name + ": " + e.getMessage(), e);
+        } finally {
+            timing.record(System.nanoTime() - started);
+        }
+        if (!report.isSuccess()) {
+            timing.failures.increment();
+            StringBuilder violations = new StringBuilder();
+            for (ProcessingMessage message : report) {
+                violations.append(System.lineSeparator()).append("  ").append(message.getMessage());
+            }
+            throw new AssertionError("Response does not match schema " + name + ":" + violations);
+        }
+    }
+
+    public Map<String, Timing> getTimings() {
+        return timings;
+    }
+
+    public String timingSummary() {
+        StringBuilder summary = new StringBuilder(String.format("%-32s %9s %9s %11s %11s%n",
+                "Schema", "Checks", "Failures", "Mean us", "Max us"));
+        timings.forEach((name, timing) -> summary.append(String.format("%-32s %9d %9d %11.1f %11.1f%n",
+                name, timing.getCount(), timing.getFailures(), timing.getMeanMicros(), timing.getMaxMicros())));
+        return summary.toString();
+    }
+
+    /**
+     * Aggregated validation cost for one schema
+     */
+    public static class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public double getMeanMicros() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / (double) n / 1000.0;
+        }
+
+        public double getMaxMicros() {
+            return maxNanos.get() / 1000.0;
+        }
+    }
+}
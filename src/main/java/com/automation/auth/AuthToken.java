@@ -0,0 +1,15 @@
+package com.automation.auth;
+
+/**
+ * Session token with the time it expires and the earlier time from which it is refreshed in the background.
+ */
+public record AuthToken(String value, long refreshAtMillis, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public boolean isRefreshDue(long nowMillis) {
+        return nowMillis >= refreshAtMillis;
+    }
+}
@@ -0,0 +1,40 @@
+package com.automation.auth;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Sends the request with the identity's cached bearer token. A 401 means the server no longer accepts the token
+ * (e.g. it was revoked before its TTL ran out), so the token is dropped and the request re-sent once with a new one.
+ */
+public class BearerTokenFilter implements Filter {
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final TokenCache tokenCache;
+    private final String email;
+    private final String password;
+
+    public BearerTokenFilter(TokenCache tokenCache, String email, String password) {
+        this.tokenCache = tokenCache;
+        this.email = email;
+        this.password = password;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String token = tokenCache.getToken(email, password);
+        requestSpec.replaceHeader(AUTHORIZATION, "Bearer " + token);
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() != 401) {
+            return response;
+        }
+        tokenCache.invalidate(email, password, token);
+        requestSpec.replaceHeader(AUTHORIZATION, "Bearer " + tokenCache.getToken(email, password));
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
@@ -0,0 +1,149 @@
+package com.automation.auth;
+
+import com.automation.utils.LogManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Session tokens shared by every thread, keyed by credentials. Concurrent misses for the same credentials wait on
+ * a single in-flight login instead of each sending one; a failed login is not cached, so the next caller retries.
+ * Once a token passes its refresh point it is still handed out while one background login replaces it, so callers
+ * only ever wait for a token that has actually expired.
+ */
+public class TokenCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> loadsByKey = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TokenLoader loader;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+    private final LongSupplier clock;
+
+    public TokenCache(TokenLoader loader, long ttlMillis, long refreshAheadMillis) {
+        this(loader, ttlMillis, refreshAheadMillis, System::currentTimeMillis);
+    }
+
+    TokenCache(TokenLoader loader, long ttlMillis, long refreshAheadMillis, LongSupplier clock) {
+        this.loader = loader;
+        this.ttlMillis = ttlMillis;
+        this.refreshAheadMillis = Math.min(refreshAheadMillis, ttlMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * Cached token for the credentials, logging in first when there is none or it has expired.
+     */
+    public String getToken(String email, String password) {
+        try {
+            return getTokenAsync(email, password).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Unable to obtain a token for " + email + ": " + e.getCause().getMessage(),
+                    e.getCause());
+        }
+    }
+
+    public CompletableFuture<String> getTokenAsync(String email, String password) {
+        String key = key(email, password);
+        long now = clock.getAsLong();
+        Entry entry = entries.compute(key, (k, current) ->
+                current != null && current.isUsable(now) ? current : new Entry(load(email, password)));
+        AuthToken token = entry.future.getNow(null);
+        if (token != null && token.isRefreshDue(now) && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry, email, password);
+        }
+        return entry.future.thenApply(AuthToken::value);
+    }
+
+    /**
+     * Caches a token obtained outside the cache, e.g. from a login or registration a scenario made itself.
+     */
+    public void put(String email, String password, String token) {
+        entries.put(key(email, password), new Entry(CompletableFuture.completedFuture(newToken(token))));
+    }
+
+    /**
+     * Drops the cached token if it is still {@code staleToken}, so that when many requests are rejected with the
+     * same token only the first one forces a new login.
+     */
+    public void invalidate(String email, String password, String staleToken) {
+        entries.computeIfPresent(key(email, password), (k, entry) -> {
+            AuthToken token = entry.future.getNow(null);
+            return token != null && token.value().equals(staleToken) ? null : entry;
+        });
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Logins this cache has sent for the credentials, including background refreshes, since it was created.
+     */
+    public long getLoadCount(String email, String password) {
+        LongAdder loads = loadsByKey.get(key(email, password));
+        return loads == null ? 0 : loads.sum();
+    }
+
+    private void refresh(String key, Entry entry, String email, String password) {
+        LogManager.debug("Refreshing token for {} ahead of expiry", email);
+        load(email, password).whenComplete((token, error) -> {
+            if (error == null) {
+                entries.replace(key, entry, new Entry(CompletableFuture.completedFuture(token)));
+            } else {
+                // Keep serving the current token until it expires, and let a later call try again
+                entry.refreshing.set(false);
+                LogManager.warn("Background token refresh for {} failed: {}", email, error.getMessage());
+            }
+        });
+    }
+
+    private CompletableFuture<AuthToken> load(String email, String password) {
+        loadsByKey.computeIfAbsent(key(email, password), k -> new LongAdder()).increment();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return newToken(loader.load(email, password));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private AuthToken newToken(String value) {
+        long now = clock.getAsLong();
+        return new AuthToken(value, now + ttlMillis - refreshAheadMillis, now + ttlMillis);
+    }
+
+    private static String key(String email, String password) {
+        return email + '\n' + password;
+    }
+
+    private static class Entry {
+        private final CompletableFuture<AuthToken> future;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(CompletableFuture<AuthToken> future) {
+            this.future = future;
+        }
+
+        /**
+         * In flight, or holding a token that has not expired yet
+         */
+        boolean isUsable(long nowMillis) {
+            if (!future.isDone()) {
+                return true;
+            }
+            AuthToken token = future.isCompletedExceptionally() ? null : future.join();
+            return token != null && !token.isExpired(nowMillis);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.automation.auth;
+
+/**
+ * Obtains a fresh token for a set of credentials, typically by calling the login endpoint.
+ */
+@FunctionalInterface
+public interface TokenLoader {
+    String load(String email, String password) throws Exception;
+}
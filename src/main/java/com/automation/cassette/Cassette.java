@@ -0,0 +1,278 @@
+package com.automation.cassette;
+
+import com.automation.utils.LogManager;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recorded exchanges stored in one indexed binary file. Layout:
+ * <pre>
+ *   int magic, int count
+ *   count x (long keyHash, long entryOffset)      -- sorted by hash
+ *   entries: key, int status, statusLine, int headerCount, headerCount x (name, value), int bodyLength, body
+ * </pre>
+ * Strings are an int byte length followed by UTF-8 bytes. On open the file is memory-mapped and nothing is
+ * parsed: lookups binary-search the index and decode only the matching entries.
+ * <p>
+ * A key can hold several exchanges (e.g. two rows posting the same body shape, or a resource read before and
+ * after a change). They are kept in recorded order and replayed in that order, starting over once all have been
+ * served; nothing recorded under a key is overwritten, except that re-recording a key replaces the file's
+ * exchanges for it. Consecutive identical responses are stored once.
+ */
+public class Cassette {
+    private static final int MAGIC = 0x43415331; // "CAS1"
+    private static final int HEADER_BYTES = 8;
+    private static final int INDEX_ENTRY_BYTES = 16;
+
+    private final Path path;
+    private final MappedByteBuffer mapped;
+    private final int count;
+    private final Map<String, List<RecordedExchange>> recorded = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> replayed = new ConcurrentHashMap<>();
+
+    private Cassette(Path path, MappedByteBuffer mapped, int count) {
+        this.path = path;
+        this.mapped = mapped;
+        this.count = count;
+    }
+
+    public static Cassette open(Path path) {
+        if (!Files.isRegularFile(path)) {
+            LogManager.info("Cassette {} does not exist yet", path);
+            return new Cassette(path, null, 0);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC) {
+                throw new IllegalStateException("Not a cassette file: " + path);
+            }
+            int count = mapped.getInt(4);
+            LogManager.info("Mapped cassette {} with {} exchanges", path, count);
+            return new Cassette(path, mapped, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening cassette " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int size() {
+        int size = count;
+        for (List<RecordedExchange> exchanges : recorded.values()) {
+            synchronized (exchanges) {
+                size += exchanges.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the next exchange to replay for {@code key}, or null when none was recorded. Successive calls walk
+     * the key's exchanges in recorded order and start over after the last one.
+     */
+    public RecordedExchange next(String key) {
+        List<RecordedExchange> exchanges = findAll(key);
+        if (exchanges.isEmpty()) {
+            return null;
+        }
+        int index = replayed.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        return exchanges.get(Math.floorMod(index, exchanges.size()));
+    }
+
+    /**
+     * Returns every exchange recorded for {@code key} in recorded order. Exchanges recorded in this run win over
+     * the file.
+     */
+    public List<RecordedExchange> findAll(String key) {
+        List<RecordedExchange> exchanges = recorded.get(key);
+        if (exchanges != null) {
+            synchronized (exchanges) {
+                return List.copyOf(exchanges);
+            }
+        }
+        if (mapped == null) {
+            return List.of();
+        }
+        long hash = CassetteKey.hash(key);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midHash = hashAt(mid);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                return scanCollisions(mid, hash, key);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Adds the exchange after the ones already recorded for its key in this run, unless it repeats the last one.
+     */
+    public void record(RecordedExchange exchange) {
+        List<RecordedExchange> exchanges = recorded.computeIfAbsent(exchange.key(), key -> new ArrayList<>());
+        synchronized (exchanges) {
+            if (exchanges.isEmpty() || !sameResponse(exchanges.get(exchanges.size() - 1), exchange)) {
+                exchanges.add(exchange);
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with the existing and newly recorded exchanges; a no-op when nothing was recorded.
+     */
+    public synchronized void flush() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        Map<String, List<RecordedExchange>> all = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            RecordedExchange existing = decode(offsetAt(i));
+            all.computeIfAbsent(existing.key(), key -> new ArrayList<>()).add(existing);
+        }
+        int added = 0;
+        for (Map.Entry<String, List<RecordedExchange>> entry : recorded.entrySet()) {
+            synchronized (entry.getValue()) {
+                all.put(entry.getKey(), List.copyOf(entry.getValue()));
+                added += entry.getValue().size();
+            }
+        }
+        List<RecordedExchange> entries = new ArrayList<>();
+        all.values().forEach(entries::addAll);
+        // Stable sort: the exchanges of one key stay in recorded order
+        entries.sort(Comparator.comparingLong(exchange -> CassetteKey.hash(exchange.key())));
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            write(temp, entries);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LogManager.info("Wrote {} exchanges ({} new) to cassette {}", entries.size(), added, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing cassette " + path, e);
+        }
+    }
+
+    private List<RecordedExchange> scanCollisions(int found, long hash, String key) {
+        int first = found;
+        while (first > 0 && hashAt(first - 1) == hash) {
+            first--;
+        }
+        List<RecordedExchange> exchanges = new ArrayList<>(1);
+        for (int i = first; i < count && hashAt(i) == hash; i++) {
+            long offset = offsetAt(i);
+            if (key.equals(readString(view(offset)))) {
+                exchanges.add(decode(offset));
+            }
+        }
+        return exchanges;
+    }
+
+    private static boolean sameResponse(RecordedExchange first, RecordedExchange second) {
+        return first.statusCode() == second.statusCode() && Arrays.equals(first.body(), second.body());
+    }
+
+    private long hashAt(int index) {
+        return mapped.getLong(HEADER_BYTES + index * INDEX_ENTRY_BYTES);
+    }
+
+    private long offsetAt(int index) {
+        return mapped.getLong(HEADER_BYTES + index * INDEX_ENTRY_BYTES + 8);
+    }
+
+    private ByteBuffer view(long offset) {
+        ByteBuffer view = mapped.duplicate();
+        view.position((int) offset);
+        return view;
+    }
+
+    private RecordedExchange decode(long offset) {
+        ByteBuffer view = view(offset);
+        String key = readString(view);
+        int statusCode = view.getInt();
+        String statusLine = readString(view);
+        int headerCount = view.getInt();
+        List<String[]> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new String[]{readString(view), readString(view)});
+        }
+        byte[] body = new byte[view.getInt()];
+        view.get(body);
+        return new RecordedExchange(key, statusCode, statusLine, headers, body);
+    }
+
+    private static String readString(ByteBuffer view) {
+        byte[] bytes = new byte[view.getInt()];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void write(Path file, List<RecordedExchange> entries) throws IOException {
+        List<byte[]> encoded = new ArrayList<>(entries.size());
+        for (RecordedExchange exchange : entries) {
+            encoded.add(encode(exchange));
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(entries.size());
+            long offset = HEADER_BYTES + (long) entries.size() * INDEX_ENTRY_BYTES;
+            for (int i = 0; i < entries.size(); i++) {
+                out.writeLong(CassetteKey.hash(entries.get(i).key()));
+                out.writeLong(offset);
+                offset += encoded.get(i).length;
+            }
+            for (byte[] entry : encoded) {
+                out.write(entry);
+            }
+        }
+    }
+
+    private static byte[] encode(RecordedExchange exchange) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + exchange.body().length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, exchange.key());
+        out.writeInt(exchange.statusCode());
+        writeString(out, exchange.statusLine() == null ? "" : exchange.statusLine());
+        out.writeInt(exchange.headers().size());
+        for (String[] header : exchange.headers()) {
+            writeString(out, header[0]);
+            writeString(out, header[1]);
+        }
+        out.writeInt(exchange.body().length);
+        out.write(exchange.body());
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
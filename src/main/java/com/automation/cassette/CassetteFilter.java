@@ -0,0 +1,85 @@
+package com.automation.cassette;
+
+import com.automation.filters.ResponseTimes;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records exchanges into, or replays them from, a {@link Cassette}. Registered after the logging and reporting
+ * filters, which see replayed responses exactly like live ones, but ahead of the latency, resilience and retry
+ * filters: a replayed exchange never reaches them, so it is neither timed nor retried.
+ */
+public class CassetteFilter implements Filter {
+    private final Cassette cassette;
+    private final CassetteMode mode;
+    /** Match body values rather than only the JSON shape */
+    private final boolean matchBody;
+
+    public CassetteFilter(Cassette cassette, CassetteMode mode, boolean matchBody) {
+        this.cassette = cassette;
+        this.mode = mode;
+        this.matchBody = matchBody;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String key = CassetteKey.of(requestSpec.getMethod(), URI.create(requestSpec.getURI()), requestSpec.getBody(), matchBody);
+        if (mode.replays()) {
+            RecordedExchange exchange = cassette.next(key);
+            if (exchange != null) {
+                return toResponse(exchange);
+            }
+            if (!mode.records()) {
+                throw new IllegalStateException("No recorded exchange in " + cassette.getPath() + " for:\n" + key);
+            }
+        }
+        long started = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        List<String[]> headers = new ArrayList<>();
+        response.getHeaders().forEach(header -> headers.add(new String[]{header.getName(), header.getValue()}));
+        // Replayed with the response so response-time checks see the recorded duration
+        headers.add(new String[]{ResponseTimes.HEADER, String.valueOf(millis)});
+        cassette.record(new RecordedExchange(key, response.getStatusCode(), response.getStatusLine(), headers,
+                response.asByteArray()));
+        return response;
+    }
+
+    /**
+     * Builds the replayed response, marked with {@link ResponseTimes#REPLAYED_HEADER}. Exchanges recorded with a
+     * duration carry it in {@link ResponseTimes#HEADER}; older recordings have no response time.
+     */
+    private static Response toResponse(RecordedExchange exchange) {
+        List<Header> headers = new ArrayList<>(exchange.headers().size() + 1);
+        headers.add(new Header(ResponseTimes.REPLAYED_HEADER, "true"));
+        String contentType = null;
+        for (String[] header : exchange.headers()) {
+            headers.add(new Header(header[0], header[1]));
+            if (contentType == null && header[0].equalsIgnoreCase("Content-Type")) {
+                contentType = header[1];
+            }
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(exchange.statusCode())
+                .setStatusLine(exchange.statusLine())
+                .setHeaders(new Headers(headers))
+                .setBody(exchange.body());
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+}
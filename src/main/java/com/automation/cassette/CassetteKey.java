@@ -0,0 +1,86 @@
+package com.automation.cassette;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Builds the match key of a request: method, path, query parameters sorted by name and a normalized body
+ * (JSON re-serialized with sorted keys and no whitespace, anything else trimmed). When only the shape is matched,
+ * JSON values are replaced by their type, so generated test data still replays while a payload with other fields,
+ * or one that is not JSON at all, gets its own key. The host is left out so a cassette recorded
+ * against reqres.in also replays against the stub.
+ */
+public class CassetteKey {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private CassetteKey() {
+    }
+
+    public static String of(String method, URI uri, Object body, boolean matchBody) {
+        StringBuilder key = new StringBuilder(method.toUpperCase()).append(' ').append(uri.getRawPath());
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            String[] parameters = query.split("&");
+            Arrays.sort(parameters);
+            key.append('?').append(String.join("&", parameters));
+        }
+        if (body != null) {
+            key.append('\n').append(normalizeBody(body, matchBody));
+        }
+        return key.toString();
+    }
+
+    static String normalizeBody(Object body, boolean exact) {
+        String text = body instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(body);
+        String trimmed = text.trim();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            try {
+                return exact
+                        ? MAPPER.writeValueAsString(MAPPER.readValue(trimmed, Object.class))
+                        : MAPPER.writeValueAsString(MAPPER.treeToValue(shapeOf(MAPPER.readTree(trimmed)), Object.class));
+            } catch (IOException e) {
+                // Not valid JSON (e.g. a negative test payload): match it verbatim
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * The node with every scalar replaced by its type name, e.g. {"id":"number","name":"string"}.
+     */
+    private static JsonNode shapeOf(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode shape = JsonNodeFactory.instance.objectNode();
+            node.properties().forEach(property -> shape.set(property.getKey(), shapeOf(property.getValue())));
+            return shape;
+        }
+        if (node.isArray()) {
+            ArrayNode shape = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> shape.add(shapeOf(element)));
+            return shape;
+        }
+        return JsonNodeFactory.instance.textNode(node.getNodeType().name().toLowerCase());
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the key, used to index the cassette file.
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
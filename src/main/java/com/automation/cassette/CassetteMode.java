@@ -0,0 +1,27 @@
+package com.automation.cassette;
+
+/**
+ * How {@link CassetteFilter} treats live traffic.
+ */
+public enum CassetteMode {
+    /** Cassettes are not used */
+    OFF,
+    /** Every exchange goes to the server and is recorded */
+    RECORD,
+    /** Exchanges are served from the cassette only; a miss fails the request */
+    REPLAY,
+    /** Recorded exchanges are replayed, misses go to the server and are recorded */
+    REPLAY_OR_RECORD;
+
+    public static CassetteMode from(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public boolean records() {
+        return this == RECORD || this == REPLAY_OR_RECORD;
+    }
+
+    public boolean replays() {
+        return this == REPLAY || this == REPLAY_OR_RECORD;
+    }
+}
@@ -0,0 +1,9 @@
+package com.automation.cassette;
+
+import java.util.List;
+
+/**
+ * A recorded response and the request key it answers.
+ */
+public record RecordedExchange(String key, int statusCode, String statusLine, List<String[]> headers, byte[] body) {
+}
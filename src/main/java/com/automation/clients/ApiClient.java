@@ -1,53 +1,104 @@
 package com.automation.clients;
 
+import com.automation.assertions.JsonTreeCache;
+import com.automation.auth.BearerTokenFilter;
+import com.automation.auth.TokenCache;
+import com.automation.cassette.Cassette;
+import com.automation.cassette.CassetteFilter;
+import com.automation.cassette.CassetteMode;
 import com.automation.config.ConfigManager;
+import com.automation.constants.EndPoints;
+import com.automation.filters.AsyncAllureFilter;
+import com.automation.filters.BufferedLoggingFilter;
+import com.automation.filters.LatencyRecordingFilter;
+import com.automation.metrics.StartupTimer;
+import com.automation.payloads.Payloads;
+import com.automation.profiling.JfrExchangeFilter;
+import com.automation.reporting.AttachmentPolicy;
+import com.automation.reporting.ReportingQueue;
+import com.automation.resilience.HedgingFilter;
+import com.automation.resilience.ResilienceFilter;
+import com.automation.resilience.RetryBudget;
+import com.automation.resilience.RetryFilter;
+import com.automation.resilience.RetryPolicy;
+import com.automation.stub.ReqresStubServer;
+import com.automation.utils.ExchangeLogBuffer;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.config.RestAssuredConfig;
-import io.restassured.config.SSLConfig;
+import io.restassured.filter.Filter;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
+import org.apache.http.pool.PoolStats;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Base API Client with RestAssured configuration
+ * Base API Client with RestAssured configuration.
+ * Specs are built once and never mutated afterwards, and no RestAssured static state is touched,
+ * so a single instance can be shared by any number of test threads. It is built lazily on the first
+ * {@link #getInstance()} call, so runs that never send a request skip the stub server, pool and filter setup.
  */
 public class ApiClient {
-    private static ApiClient instance;
+    private RestAssuredConfig restAssuredConfig;
     private RequestSpecification requestSpec;
+    private RequestSpecification authenticatedRequestSpec;
+    /** Base settings and the filters that see one logical exchange; the send filters are appended to it */
+    private RequestSpecification exchangeSpec;
+    private List<Filter> sendFilters;
+    private final Map<String, RequestSpecification> bearerSpecs = new ConcurrentHashMap<>();
     private ResponseSpecification responseSpec;
-    private ConfigManager configManager;
+    private final ConfigManager configManager;
+    private final ConnectionPoolManager connectionPool;
+    private final TokenCache tokenCache;
+    private volatile AsyncApiClient asyncClient;
 
     private ApiClient() {
         configManager = ConfigManager.getInstance();
+        if (configManager.isStubEnabled()) {
+            ReqresStubServer.ensureStarted();
+        }
+        connectionPool = new ConnectionPoolManager(configManager);
+        Runtime.getRuntime().addShutdownHook(new Thread(connectionPool::shutdown, "http-pool-shutdown"));
         setupRestAssured();
         buildRequestSpecification();
         buildResponseSpecification();
+        tokenCache = new TokenCache(this::requestToken, configManager.getTokenTtlSeconds() * 1000L,
+                configManager.getTokenRefreshAheadSeconds() * 1000L);
+        StartupTimer.mark(StartupTimer.API_CLIENT_READY);
     }
 
     public static ApiClient getInstance() {
-        if (instance == null) {
-            synchronized (ApiClient.class) {
-                if (instance == null) {
-                    instance = new ApiClient();
-                }
-            }
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final ApiClient INSTANCE = new ApiClient();
     }
 
     private void setupRestAssured() {
-        RestAssured.baseURI = configManager.getBaseUrl();
-        RestAssured.config = RestAssuredConfig.config()
-                .sslConfig(SSLConfig.sslConfig().allowAllHostnames());
+        // Hostname verification is relaxed on the pool's shared TLS socket factory rather than through
+        // SSLConfig, which would register a fresh socket factory (and lose TLS session reuse) per request.
+        restAssuredConfig = RestAssuredConfig.config()
+                .httpClient(connectionPool.httpClientConfig());
     }
 
     private void buildRequestSpecification() {
         RequestSpecBuilder requestBuilder = new RequestSpecBuilder();
+        requestBuilder.setConfig(restAssuredConfig);
         requestBuilder.setBaseUri(configManager.getBaseUrl());
         requestBuilder.setBasePath(configManager.getBasePath());
         requestBuilder.setContentType(ContentType.JSON);
@@ -56,13 +107,71 @@ public class ApiClient {
         requestBuilder.setAuth(RestAssured.basic(configManager.getAuthKey(),configManager.getAuthToken()));
 
 
+        // First, so its flight recorder event spans every other filter; a no-op unless a recording is running
+        requestBuilder.addFilter(new JfrExchangeFilter());
         // Add filters for logging and Allure reporting
-        requestBuilder.addFilter(new RequestLoggingFilter());
-        requestBuilder.addFilter(new ResponseLoggingFilter());
-        requestBuilder.addFilter(new AllureRestAssured());
+        switch (configManager.getLogMode()) {
+            case "failure-only":
+                ExchangeLogBuffer.configure(configManager.getLogBufferSize(), configManager.getLogBufferBodyChars());
+                requestBuilder.addFilter(new BufferedLoggingFilter());
+                break;
+            case "none":
+                break;
+            default:
+                requestBuilder.addFilter(new RequestLoggingFilter());
+                requestBuilder.addFilter(new ResponseLoggingFilter());
+        }
+        switch (configManager.getReportMode().toLowerCase()) {
+            case "async":
+                requestBuilder.addFilter(new AsyncAllureFilter(
+                        new AttachmentPolicy(configManager.getReportAttachmentMaxChars(), configManager.getReportAttachmentSampleRate()),
+                        ReportingQueue.getInstance()));
+                break;
+            case "none":
+                // Fast-startup runs: no Allure lifecycle, templates or attachments are loaded
+                break;
+            default:
+                requestBuilder.addFilter(new AllureRestAssured());
+        }
+        // Ahead of the latency filter, so replayed exchanges stay out of the histograms and the baseline
+        CassetteMode cassetteMode = CassetteMode.from(configManager.getCassetteMode());
+        if (cassetteMode != CassetteMode.OFF) {
+            Cassette cassette = Cassette.open(Paths.get(configManager.getCassettePath()));
+            if (cassetteMode.records()) {
+                Runtime.getRuntime().addShutdownHook(new Thread(cassette::flush, "cassette-flush"));
+            }
+            requestBuilder.addFilter(new CassetteFilter(cassette, cassetteMode, configManager.isCassetteBodyMatched()));
+        }
+        // Registered after logging and reporting so the measured latency excludes them
+        requestBuilder.addFilter(new LatencyRecordingFilter());
+        exchangeSpec = requestBuilder.build();
 
-        requestSpec = requestBuilder.build();
+        // Send filters: per-request filters such as the bearer token go in front of them
+        sendFilters = new ArrayList<>();
+        ResilienceFilter resilience = new ResilienceFilter(configManager.getCircuitFailureThreshold(), configManager.getCircuitOpenMs());
+        if (configManager.isHedgingEnabled()) {
+            // Its own budget, refilled by the GETs it sees, so hedges and retries cannot starve each other
+            RetryBudget hedgeBudget = new RetryBudget(configManager.getRetryBudgetRatio(), configManager.getRetryBudgetMaxTokens());
+            sendFilters.add(new HedgingFilter(configManager.getHedgePercentile(), configManager.getHedgeMinSamples(),
+                    hedgeBudget, configManager.getConnectTimeout(), configManager.getTimeout()));
+        }
+        // Retries re-send only the request itself, so this must stay the last filter; it runs every attempt
+        // through the deadline and circuit breaker checks, which otherwise sit last on their own
+        if (configManager.isRetryEnabled() && configManager.getMaxRetries() > 0) {
+            RetryBudget retryBudget = new RetryBudget(configManager.getRetryBudgetRatio(), configManager.getRetryBudgetMaxTokens());
+            sendFilters.add(new RetryFilter(RetryPolicy.from(configManager), retryBudget, resilience));
+        } else {
+            sendFilters.add(resilience);
+        }
 
+        requestSpec = new RequestSpecBuilder()
+                .addRequestSpecification(exchangeSpec)
+                .addFilters(sendFilters)
+                .build();
+        authenticatedRequestSpec = new RequestSpecBuilder()
+                .addRequestSpecification(requestSpec)
+                .setAuth(RestAssured.basic(configManager.getAuthKey(), configManager.getAuthToken()))
+                .build();
     }
 
     private void buildResponseSpecification() {
@@ -79,11 +188,72 @@ public class ApiClient {
         return responseSpec;
     }
 
+    /**
+     * Asynchronous client sending through the same request spec and filters, created on first use.
+     */
+    public AsyncApiClient getAsyncClient() {
+        if (asyncClient == null) {
+            synchronized (this) {
+                if (asyncClient == null) {
+                    String baseUrl = configManager.getBaseUrl();
+                    String baseUri = (baseUrl.endsWith("/") ? baseUrl : baseUrl + "/") + configManager.getBasePath();
+                    asyncClient = new AsyncApiClient(this::getRequestSpec, baseUri, getDefaultHeaders(),
+                            configManager.getConnectTimeout(), configManager.getTimeout());
+                }
+            }
+        }
+        return asyncClient;
+    }
+
+    private Map<String, String> getDefaultHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json; charset=UTF-8");
+        headers.put("Accept", "application/json");
+        headers.put(configManager.getAuthKey(), configManager.getAuthToken());
+        String credentials = configManager.getAuthKey() + ":" + configManager.getAuthToken();
+        headers.put("Authorization", "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+        return headers;
+    }
+
+    public PoolStats getConnectionPoolStats() {
+        return connectionPool.getStats();
+    }
+
+    /**
+     * Request with the configured basic-auth credentials; the auth scheme is built once with the other specs.
+     */
     public RequestSpecification getAuthenticatedRequestSpec() {
-        // Add authentication if needed
-        return getRequestSpec()
-                .auth()
-                .basic(configManager.getProperty("auth.username"), 
-                       configManager.getProperty("auth.password"));
+        return RestAssured.given().spec(authenticatedRequestSpec);
+    }
+
+    /**
+     * Request sent as a logged-in user, with a bearer token from the shared {@link TokenCache}. The token filter
+     * sits ahead of hedging and retries, so hedged and retried attempts carry the token too; the spec is built
+     * once per identity.
+     */
+    public RequestSpecification getAuthenticatedRequestSpec(String email, String password) {
+        RequestSpecification spec = bearerSpecs.computeIfAbsent(email + '\n' + password, key -> new RequestSpecBuilder()
+                .addRequestSpecification(exchangeSpec)
+                .addFilter(new BearerTokenFilter(tokenCache, email, password))
+                .addFilters(sendFilters)
+                .build());
+        return RestAssured.given().spec(spec);
+    }
+
+    public TokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    private String requestToken(String email, String password) {
+        Response response = getRequestSpec()
+                .body(Payloads.auth(email, password))
+                .when().post(EndPoints.LOG_IN)
+                .then().extract().response();
+        String token = response.getStatusCode() == 200 ? JsonTreeCache.treeOf(response).path("token").asText("") : "";
+        if (token.isEmpty()) {
+            throw new IllegalStateException("Login as " + email + " returned status " + response.getStatusCode()
+                    + " without a token: " + response.asString());
+        }
+        return token;
     }
 }
\ No newline at end of file
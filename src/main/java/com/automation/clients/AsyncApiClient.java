@@ -0,0 +1,147 @@
+package com.automation.clients;
+
+import com.automation.filters.ResponseTimes;
+import com.automation.resilience.Deadline;
+import com.automation.utils.ExchangeLogBuffer;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous requests to the same service. Each request is built from {@link ApiClient#getRequestSpec()} and
+ * sent on its own virtual thread, so it passes the same logging, reporting, latency, cassette, deadline, circuit
+ * breaker and retry filters as a blocking call. The caller's {@link Deadline} and failure log buffer are carried
+ * over to that thread. {@link #sendUnfiltered} skips the filters; it is meant for fuzzing only.
+ */
+public class AsyncApiClient {
+    private final Supplier<RequestSpecification> requestSpecs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final String baseUri;
+    private final String[] defaultHeaders;
+    private final Duration requestTimeout;
+
+    AsyncApiClient(Supplier<RequestSpecification> requestSpecs, String baseUri, Map<String, String> defaultHeaders,
+                   int connectTimeoutMs, int requestTimeoutMs) {
+        this.requestSpecs = requestSpecs;
+        this.baseUri = baseUri.endsWith("/") ? baseUri : baseUri + "/";
+        List<String> headers = new ArrayList<>();
+        defaultHeaders.forEach((name, value) -> {
+            headers.add(name);
+            headers.add(value);
+        });
+        this.defaultHeaders = headers.toArray(new String[0]);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    public CompletableFuture<Response> send(String method, String endpoint, String body) {
+        return exchange(method, endpoint, Map.of(), body);
+    }
+
+    public CompletableFuture<Response> send(String method, String endpoint, byte[] body) {
+        return exchange(method, endpoint, Map.of(), body);
+    }
+
+    private CompletableFuture<Response> exchange(String method, String endpoint, Map<String, ?> queryParams, Object body) {
+        Supplier<Response> request = () -> {
+            RequestSpecification spec = requestSpecs.get().queryParams(queryParams);
+            if (body != null) {
+                spec.body(body);
+            }
+            return spec.request(method, endpoint);
+        };
+        return CompletableFuture.supplyAsync(Deadline.bind(ExchangeLogBuffer.bind(request)), executor);
+    }
+
+    public CompletableFuture<Response> get(String endpoint) {
+        return exchange("GET", endpoint, Map.of(), null);
+    }
+
+    public CompletableFuture<Response> get(String endpoint, Map<String, ?> queryParams) {
+        return exchange("GET", endpoint, queryParams, null);
+    }
+
+    public CompletableFuture<Response> post(String endpoint, String body) {
+        return send("POST", endpoint, body);
+    }
+
+    public CompletableFuture<Response> post(String endpoint, byte[] body) {
+        return send("POST", endpoint, body);
+    }
+
+    public CompletableFuture<Response> put(String endpoint, String body) {
+        return send("PUT", endpoint, body);
+    }
+
+    public CompletableFuture<Response> put(String endpoint, byte[] body) {
+        return send("PUT", endpoint, body);
+    }
+
+    public CompletableFuture<Response> delete(String endpoint) {
+        return exchange("DELETE", endpoint, Map.of(), null);
+    }
+
+    /**
+     * Sends the bytes as-is on the JDK HTTP client, with the default headers and none of the filters. Fuzzing
+     * needs this: a retry would mask the 5xx it is looking for, dropped connections are findings rather than
+     * reasons to open the circuit, and logging or attaching thousands of malformed bodies would drown the reports.
+     */
+    public CompletableFuture<Response> sendUnfiltered(String method, String endpoint, byte[] body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + endpoint))
+                .headers(defaultHeaders)
+                .timeout(requestTimeout)
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(AsyncApiClient::toResponse);
+    }
+
+    /**
+     * Converts a JDK HTTP response into a RestAssured {@link Response} so the usual assertions apply.
+     */
+    public static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        return toResponse(httpResponse, List.of());
+    }
+
+    /**
+     * Converts a JDK HTTP response that took {@code elapsedMillis}; the time is readable through
+     * {@link ResponseTimes#millisOf} since RestAssured only times the responses it received itself.
+     */
+    public static Response toResponse(HttpResponse<byte[]> httpResponse, long elapsedMillis) {
+        return toResponse(httpResponse, List.of(new Header(ResponseTimes.HEADER, String.valueOf(elapsedMillis))));
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> httpResponse, List<Header> extraHeaders) {
+        List<Header> headers = new ArrayList<>(extraHeaders);
+        httpResponse.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+        String version = httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(version + " " + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+}
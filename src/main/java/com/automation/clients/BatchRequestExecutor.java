@@ -0,0 +1,91 @@
+package com.automation.clients;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends a batch of asynchronous requests with at most {@code maxConcurrency} in flight,
+ * collecting results in submission order. A request is only started once an earlier one completes.
+ */
+public class BatchRequestExecutor {
+
+    private BatchRequestExecutor() {
+    }
+
+    /**
+     * Completes with all results once every request finished; if any request failed the returned
+     * future fails with the first error and the other errors attached as suppressed.
+     */
+    public static <T> CompletableFuture<List<T>> sendAll(List<? extends Supplier<CompletableFuture<T>>> requests,
+                                                         int maxConcurrency) {
+        int size = requests.size();
+        Object[] results = new Object[size];
+        Throwable[] errors = new Throwable[size];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(size);
+        CompletableFuture<List<T>> batch = new CompletableFuture<>();
+        if (size == 0) {
+            batch.complete(List.of());
+            return batch;
+        }
+
+        // Each completion requests one more launch; the work-in-progress counter turns requests that complete
+        // synchronously into loop iterations instead of recursion.
+        AtomicInteger pendingLaunches = new AtomicInteger();
+        Runnable[] launchNext = new Runnable[1];
+        launchNext[0] = () -> {
+            if (pendingLaunches.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                int index = next.getAndIncrement();
+                if (index >= size) {
+                    continue;
+                }
+                CompletableFuture<T> future;
+                try {
+                    future = requests.get(index).get();
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete((result, error) -> {
+                    results[index] = result;
+                    errors[index] = error;
+                    if (remaining.decrementAndGet() == 0) {
+                        complete(batch, results, errors);
+                    } else {
+                        launchNext[0].run();
+                    }
+                });
+            } while (pendingLaunches.decrementAndGet() != 0);
+        };
+        for (int i = 0; i < Math.min(Math.max(maxConcurrency, 1), size); i++) {
+            launchNext[0].run();
+        }
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void complete(CompletableFuture<List<T>> batch, Object[] results, Throwable[] errors) {
+        Throwable first = null;
+        for (Throwable error : errors) {
+            if (error == null) {
+                continue;
+            }
+            if (first == null) {
+                first = error;
+            } else {
+                first.addSuppressed(error);
+            }
+        }
+        if (first != null) {
+            batch.completeExceptionally(first);
+        } else {
+            batch.complete((List<T>) new ArrayList<>(Arrays.asList(results)));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.automation.clients;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Outcome of a bulk request run: one lightweight entry per row (status and, for errors, a body snippet)
+ * so thousands of rows can be asserted on without keeping every response alive.
+ */
+public class BulkResult {
+    private static final int BODY_SNIPPET_CHARS = 200;
+
+    private final Queue<RowOutcome> outcomes = new ConcurrentLinkedQueue<>();
+    private volatile long elapsedMillis;
+
+    void record(int index, Map<String, String> row, int status, String body, Throwable error) {
+        String snippet = body == null || body.length() <= BODY_SNIPPET_CHARS ? body : body.substring(0, BODY_SNIPPET_CHARS) + "...";
+        outcomes.add(new RowOutcome(index, row, status, snippet, error == null ? null : error.toString()));
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getTotal() {
+        return outcomes.size();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Map<Integer, Integer> getStatusCounts() {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        outcomes.forEach(outcome -> counts.merge(outcome.status(), 1, Integer::sum));
+        return counts;
+    }
+
+    /**
+     * Rows whose status differs from {@code expectedStatus}, in row order.
+     */
+    public List<RowOutcome> failures(int expectedStatus) {
+        List<RowOutcome> failures = new ArrayList<>();
+        outcomes.forEach(outcome -> {
+            if (outcome.status() != expectedStatus) {
+                failures.add(outcome);
+            }
+        });
+        failures.sort(Comparator.comparingInt(RowOutcome::index));
+        return failures;
+    }
+
+    public String failureSummary(int expectedStatus, int maxRows) {
+        List<RowOutcome> failures = failures(expectedStatus);
+        StringBuilder summary = new StringBuilder(String.format("%d of %d rows did not return %d (status counts %s)%n",
+                failures.size(), getTotal(), expectedStatus, getStatusCounts()));
+        failures.stream().limit(maxRows).forEach(failure -> summary.append(String.format("  row %d %s -> %s%n",
+                failure.index() + 1, failure.row(),
+                failure.error() != null ? failure.error() : failure.status() + " " + failure.body())));
+        if (failures.size() > maxRows) {
+            summary.append(String.format("  ... %d more%n", failures.size() - maxRows));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Result of one data row; status is {@code -1} when the request itself failed.
+     */
+    public record RowOutcome(int index, Map<String, String> row, int status, String body, String error) {
+    }
+}
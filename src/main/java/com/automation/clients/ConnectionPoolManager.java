@@ -0,0 +1,115 @@
+package com.automation.clients;
+
+import com.automation.config.ConfigManager;
+import com.automation.profiling.ExchangeTimings;
+import com.automation.profiling.TimedConnectionOperator;
+import com.automation.resilience.Deadline;
+import com.automation.utils.LogManager;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContexts;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared, bounded keep-alive connection pool behind every RestAssured request.
+ * A single TLS socket factory (and so a single SSL session cache) is registered once, which lets
+ * new connections to the same host resume TLS sessions instead of doing full handshakes.
+ */
+public class ConnectionPoolManager {
+    // The deprecated HttpClient 4.0 API is deliberate: RestAssured casts its client factory's result to
+    // AbstractHttpClient, which HttpClientBuilder's clients are not, so only the members that build the
+    // pool and the client suppress the warning.
+    @SuppressWarnings("deprecation")
+    private final PoolingClientConnectionManager connectionManager;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+    private final ScheduledExecutorService evictor;
+    private final int connectTimeoutMs;
+    private final int socketTimeoutMs;
+
+    @SuppressWarnings("deprecation")
+    ConnectionPoolManager(ConfigManager configManager) {
+        connectTimeoutMs = configManager.getConnectTimeout();
+        socketTimeoutMs = configManager.getTimeout();
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemeRegistry.register(new Scheme("https", 443,
+                new SSLSocketFactory(SSLContexts.createDefault(), SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)));
+
+        connectionManager = new PoolingClientConnectionManager(schemeRegistry,
+                configManager.getPoolConnectionTtlMs(), TimeUnit.MILLISECONDS) {
+            // Times connection opening for the JFR exchange events
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+                return new TimedConnectionOperator(schemes);
+            }
+        };
+        connectionManager.setMaxTotal(configManager.getPoolMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(configManager.getPoolMaxPerRoute());
+
+        long keepAliveMs = configManager.getPoolKeepAliveMs();
+        keepAliveStrategy = (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMs) : keepAliveMs;
+        };
+
+        long idleEvictMs = configManager.getPoolIdleEvictMs();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictMs, TimeUnit.MILLISECONDS);
+        }, idleEvictMs, idleEvictMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * RestAssured client config that reuses one pooled client for every request. Connect and read timeouts
+     * come from {@code api.connect.timeout} / {@code api.timeout}; waiting for a pooled connection is bounded
+     * by the connect timeout. Within a scenario deadline the read timeout is capped at the time left.
+     */
+    @SuppressWarnings("deprecation")
+    HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeoutMs)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, socketTimeoutMs)
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) connectTimeoutMs)
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> {
+                    DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+                    client.setKeepAliveStrategy(keepAliveStrategy);
+                    client.addRequestInterceptor(ExchangeTimings.requestInterceptor());
+                    client.addRequestInterceptor(Deadline.requestInterceptor());
+                    client.addResponseInterceptor(ExchangeTimings.responseInterceptor());
+                    return client;
+                });
+    }
+
+    /**
+     * Leased, available (idle), pending and max connections across all routes.
+     */
+    public PoolStats getStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    public void shutdown() {
+        LogManager.info("Closing HTTP connection pool " + getStats());
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+}
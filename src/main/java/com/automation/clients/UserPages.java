@@ -0,0 +1,138 @@
+package com.automation.clients;
+
+import com.automation.assertions.JsonTreeCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates every user of a paginated list endpoint. The first page gives {@code total_pages}; after that up to
+ * {@code prefetch} further pages are requested on the async client while the caller works through the current one,
+ * so only the current page and the prefetched ones are ever held in memory. Pages go through the same filters as any
+ * other request.
+ */
+public class UserPages implements Iterator<JsonNode>, AutoCloseable {
+    private final AsyncApiClient client;
+    private final String endpoint;
+    private final int perPage;
+    private final int prefetch;
+    private final Deque<CompletableFuture<Response>> inFlight = new ArrayDeque<>();
+
+    private Iterator<JsonNode> current = Collections.emptyIterator();
+    private int total = -1;
+    private int totalPages = 1;
+    private int nextPage = 1;
+    private int pagesRead;
+
+    UserPages(AsyncApiClient client, String endpoint, int perPage, int prefetch) {
+        this.client = client;
+        this.endpoint = endpoint;
+        this.perPage = perPage;
+        this.prefetch = Math.max(1, prefetch);
+        request();
+    }
+
+    /**
+     * Sequential stream over the same users; closing it cancels pages still in flight.
+     */
+    public Stream<JsonNode> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (inFlight.isEmpty()) {
+                return false;
+            }
+            readPage(inFlight.poll());
+        }
+        return true;
+    }
+
+    @Override
+    public JsonNode next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * The collection's reported {@code total}, known once the first page has been read; -1 before that.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public int getPagesRead() {
+        return pagesRead;
+    }
+
+    @Override
+    public void close() {
+        inFlight.forEach(page -> page.cancel(true));
+        inFlight.clear();
+        current = Collections.emptyIterator();
+    }
+
+    private void readPage(CompletableFuture<Response> page) {
+        Response response;
+        try {
+            response = page.join();
+        } catch (CompletionException e) {
+            close();
+            throw new IllegalStateException("Error fetching page " + (pagesRead + 1) + " of " + endpoint + ": "
+                    + e.getCause().getMessage(), e.getCause());
+        }
+        if (response.getStatusCode() != 200) {
+            close();
+            throw new IllegalStateException("Page " + (pagesRead + 1) + " of " + endpoint + " returned status "
+                    + response.getStatusCode() + ": " + response.asString());
+        }
+        JsonNode body;
+        try {
+            body = JsonTreeCache.mapper().readTree(response.asByteArray());
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Page " + (pagesRead + 1) + " of " + endpoint + " is not valid JSON", e);
+        }
+        if (pagesRead++ == 0) {
+            total = body.path("total").asInt(-1);
+            totalPages = body.path("total_pages").asInt(1);
+        }
+        current = body.path("data").iterator();
+        while (nextPage <= totalPages && inFlight.size() < prefetch) {
+            request();
+        }
+    }
+
+    private void request() {
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("page", nextPage++);
+        if (perPage > 0) {
+            query.put("per_page", perPage);
+        }
+        inFlight.add(client.get(endpoint, query));
+    }
+}
@@ -1,53 +1,102 @@
 package com.automation.clients;
 
+import com.automation.assertions.JsonTreeCache;
 import com.automation.config.ConfigManager;
 import com.automation.constants.EndPoints;
+import com.automation.data.Identity;
+import com.automation.data.RowSource;
+import com.automation.data.TestDataFactory;
+import com.automation.payloads.Payloads;
+import com.automation.payloads.PayloadSerializer;
 import com.automation.utils.LogManager;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.cucumber.datatable.DataTable;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
-
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 public class UserServiceController {
-    static ApiClient apiClient = ApiClient.getInstance();
+    /**
+     * Resolved on first use, so loading this class does not build the client, its filters or the stub server.
+     */
+    private static ApiClient apiClient() {
+        return ApiClient.getInstance();
+    }
 
     public static String generateEmailAndPassword(int length) {
-        String candidateChars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890";
-        StringBuilder stringGenerated = new StringBuilder();
-        Random random = new Random();
-        for (int i = 0; i < length; i++) {
-            stringGenerated.append(candidateChars.charAt(random.nextInt(candidateChars
-                    .length())));
-        }
-        return stringGenerated.toString();
+        return TestDataFactory.getInstance().uniqueString(length);
     }
 
     public static Response signUp(String email, String password) {
-        return given().contentType(ContentType.JSON)
-                .body("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}")
-                .log().all()
+        Response response = apiClient().getRequestSpec()
+                .body(Payloads.auth(email, password))
                 .when().post(EndPoints.SING_UP)
-                .then().log().all().extract().response();
+                .then().extract().response();
+        cacheToken(email, password, response);
+        return response;
+    }
+
+    public static Response signUp(Identity identity) {
+        return signUp(identity.email(), identity.password());
     }
 
     public static Response login(String email, String password) {
-        RequestSpecification request = given().contentType(ContentType.JSON).log().all();
+        RequestSpecification request = apiClient().getRequestSpec();
         if (email != null && password != null) {
-            request.body("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+            request.body(Payloads.auth(email, password));
+        }
+        Response response = request.when().post(EndPoints.LOG_IN)
+                .then().extract().response();
+        cacheToken(email, password, response);
+        return response;
+    }
+
+    /**
+     * Registers the user and caches the token from the response for later authenticated requests.
+     */
+    public static Response register(String email, String password) {
+        Response response = apiClient().getRequestSpec()
+                .body(Payloads.auth(email, password))
+                .when().post(EndPoints.REGISTER_SUCCESS)
+                .then().extract().response();
+        cacheToken(email, password, response);
+        return response;
+    }
+
+    /**
+     * GET as a logged-in user; the token comes from the shared cache, so repeated calls do not log in again.
+     */
+    public static Response getUserAs(String endpoint, String email, String password) {
+        return apiClient().getAuthenticatedRequestSpec(email, password)
+                .when()
+                .get(endpoint)
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * Saves the token of a successful login or registration so the next authenticated request reuses it.
+     */
+    private static void cacheToken(String email, String password, Response response) {
+        if (email == null || password == null || response.getStatusCode() != 200) {
+            return;
+        }
+        String token = JsonTreeCache.treeOf(response).path("token").asText("");
+        if (!token.isEmpty()) {
+            apiClient().getTokenCache().put(email, password, token);
         }
-        return request.when().post(EndPoints.LOG_IN)
-                .then().log().all().extract().response();
     }
 
     public static Response getUser(String endpoint, int statusCode) {
-        return apiClient.getRequestSpec()
+        return apiClient().getRequestSpec()
                 .basePath(ConfigManager.getInstance().getBasePath())
                 .when()
                 .get(endpoint)
@@ -59,7 +108,7 @@ public class UserServiceController {
 
     public static Response getUser(String endpoint) {
         LogManager.info("GET method Executed ");
-        return apiClient.getRequestSpec()
+        return apiClient().getRequestSpec()
                 .basePath(ConfigManager.getInstance().getBasePath())
                 .when()
                 .get(endpoint)
@@ -70,7 +119,7 @@ public class UserServiceController {
 
     public static Response deleteUser(String endpoint) {
         LogManager.info("Trying to execute DELETE command ...");
-        Response res = apiClient.getRequestSpec()
+        Response res = apiClient().getRequestSpec()
                 .when()
                 .delete(endpoint)
                 .then()
@@ -81,35 +130,80 @@ public class UserServiceController {
     }
 
     public static Response post(String payload, String endpoint) {
-        Map<String, String> data = new HashMap<>();
-        RequestSpecification request = given().contentType(ContentType.JSON).log().all();
-        return  apiClient.getRequestSpec()
+        return  apiClient().getRequestSpec()
                 .when()
                 .body(payload)
                 .post(endpoint)
                 .then()
-                .log()
-                .all()
                 .extract()
                 .response();
 
     }
 
+    /**
+     * Sends the single data row of {@code dataTable}. Tables with more rows go through {@link #createUsers}.
+     */
     public static Response createUser(String method, DataTable dataTable) {
         List<Map<String, String>> dataList = dataTable.asMaps(String.class,String.class);
+        if (dataList.size() != 1) {
+            throw new IllegalArgumentException("Expected exactly one data row but got " + dataList.size()
+                    + "; send several users with createUsers");
+        }
         Map<String,String>data=dataList.get(0);
-//        Map<String, String> data = dataTable.asMap(String.class, String.class);
-        LogManager.info("Trying to create user with "+"\nData :"+ dataTable+"\nendpoint"+ EndPoints.CREATE_USER);
-        String name = data.get("name");
-        String job = data.get("job");
-        String payload = String.format("{\"name\":\"%s\", \"job\":\"%s\"}", name, job);
+        LogManager.info("Trying to create user with \nData :{}\nendpoint{}", dataTable, EndPoints.CREATE_USER);
+        return createUser(method, data.get("name"), data.get("job"));
+    }
+
+    /**
+     * Sends one create/update request per row, at most {@code concurrency} in flight. Rows are pulled from
+     * the source only as permits free up, so streamed files are never fully held in memory.
+     */
+    public static BulkResult createUsers(String method, RowSource rows, int concurrency) {
+        if (!method.equalsIgnoreCase("POST") && !method.equalsIgnoreCase("PUT")) {
+            throw new IllegalArgumentException("Users are created with POST or PUT, not " + method);
+        }
+        LogManager.info("Sending bulk {} requests with concurrency {}", method, concurrency);
+        BulkResult result = new BulkResult();
+        Semaphore permits = new Semaphore(concurrency);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int index = 0;
+            while (rows.hasNext()) {
+                Map<String, String> row = rows.next();
+                int rowIndex = index++;
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        Response response = createUser(method, row.get("name"), row.get("job"));
+                        int status = response.getStatusCode();
+                        result.record(rowIndex, row, status, status >= 400 ? response.asString() : null, null);
+                    } catch (RuntimeException e) {
+                        result.record(rowIndex, row, -1, null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        LogManager.info("Bulk {} of {} rows finished in {} ms: {}", method, result.getTotal(),
+                result.getElapsedMillis(), result.getStatusCounts());
+        return result;
+    }
+
+    public static BulkResult createUsers(String method, RowSource rows) {
+        return createUsers(method, rows, ConfigManager.getInstance().getBulkConcurrency());
+    }
+
+    public static Response createUser(String method, String name, String job) {
+        byte[] payload = Payloads.user(name, job);
         if (method.equalsIgnoreCase("POST")) {
-            return apiClient.getRequestSpec()
+            return apiClient().getRequestSpec()
                     .body(payload)
                     .when()
                     .post(EndPoints.CREATE_USER);
         } else if (method.equalsIgnoreCase("PUT")) {
-            return apiClient.getRequestSpec()
+            return apiClient().getRequestSpec()
                     .body(payload)
                     .when()
                     .put(EndPoints.UPDATE_USER);
@@ -120,12 +214,64 @@ public class UserServiceController {
     }
 
     public static Response post( String payload) {
-        LogManager.info("Trying to send post request "+"\nData :"+ payload+"\nendpoint"+ EndPoints.CREATE_USER);
-            return apiClient.getRequestSpec()
+        LogManager.info("Trying to send post request \nData :{}\nendpoint{}", payload, EndPoints.CREATE_USER);
+            return apiClient().getRequestSpec()
                     .body(payload)
                     .when()
                     .post(EndPoints.CREATE_USER);
     }
 
+    /**
+     * Posts any request model (e.g. {@link com.automation.models.Post}) serialized with its cached writer.
+     */
+    public static Response post(Object model, String endpoint) {
+        return apiClient().getRequestSpec()
+                .body(PayloadSerializer.toBytes(model))
+                .when()
+                .post(endpoint)
+                .then()
+                .extract()
+                .response();
+    }
+
+    /**
+     * Every user of the list endpoint, fetched page by page with {@code prefetch} pages requested ahead.
+     * Close the iterator (or stream) when stopping early so that prefetched pages are cancelled.
+     */
+    public static UserPages userPages(int perPage, int prefetch) {
+        return new UserPages(apiClient().getAsyncClient(), EndPoints.USERS, perPage, prefetch);
+    }
+
+    public static UserPages userPages() {
+        ConfigManager config = ConfigManager.getInstance();
+        return userPages(config.getPaginationPerPage(), config.getPaginationPrefetch());
+    }
+
+    public static Stream<JsonNode> streamUsers() {
+        return userPages().stream();
+    }
+
+    public static CompletableFuture<Response> getUserAsync(String endpoint) {
+        return apiClient().getAsyncClient().get(endpoint);
+    }
+
+    public static CompletableFuture<Response> deleteUserAsync(String endpoint) {
+        return apiClient().getAsyncClient().delete(endpoint);
+    }
+
+    public static CompletableFuture<Response> createUserAsync(String method, String name, String job) {
+        byte[] payload = Payloads.user(name, job);
+        if (method.equalsIgnoreCase("PUT")) {
+            return apiClient().getAsyncClient().put(EndPoints.UPDATE_USER, payload);
+        }
+        return apiClient().getAsyncClient().post(EndPoints.CREATE_USER, payload);
+    }
+
+    public static CompletableFuture<Response> postAsync(String payload, String endpoint) {
+        return apiClient().getAsyncClient().post(endpoint, payload);
+    }
 
+    public static CompletableFuture<Response> postAsync(String payload) {
+        return postAsync(payload, EndPoints.CREATE_USER);
+    }
 }
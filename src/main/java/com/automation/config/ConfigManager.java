@@ -1,37 +1,38 @@
 package com.automation.config;
 
+import com.automation.metrics.StartupTimer;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.Properties;
 
 /**
- * Configuration Manager for handling environment-specific settings
+ * Configuration Manager for handling environment-specific settings.
+ * The configuration is loaded by the JVM's class initialization of {@link Holder} on first use, which is
+ * thread-safe without a lock or volatile read on every call.
  */
 public class ConfigManager {
-    private static ConfigManager instance;
-    private Properties properties;
-    private String environment;
+    private final Properties properties = new Properties();
+    private final String environment;
 
     private ConfigManager() {
+        environment = System.getProperty("env", "qa");
         loadConfiguration();
+        StartupTimer.mark(StartupTimer.CONFIG_LOADED);
     }
 
     public static ConfigManager getInstance() {
-        if (instance == null) {
-            synchronized (ConfigManager.class) {
-                if (instance == null) {
-                    instance = new ConfigManager();
-                }
-            }
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
     }
 
     private void loadConfiguration() {
 //        System.setProperty("env","qa");
-        properties = new Properties();
-        environment = System.getProperty("env", "qa");
-        
         String configFileName = "config-" + environment + ".properties";
         
         try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(configFileName)) {
@@ -53,6 +54,11 @@ public class ConfigManager {
         return properties.getProperty(key);
     }
 
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
+    }
+
     public String getBaseUrl() {
         return getProperty("api.base.url");
     }
@@ -67,10 +73,253 @@ public class ConfigManager {
         return getProperty("auth.password");
     }
 
+    /**
+     * How long a cached login token is used before logging in again.
+     */
+    public int getTokenTtlSeconds() {
+        return Integer.parseInt(getProperty("auth.token.ttl.seconds", "3600"));
+    }
+
+    /**
+     * How long before expiry a cached token is replaced by a background login.
+     */
+    public int getTokenRefreshAheadSeconds() {
+        return Integer.parseInt(getProperty("auth.token.refresh.ahead.seconds", "300"));
+    }
+
     public int getTimeout() {
         return Integer.parseInt(getProperty("api.timeout"));
     }
 
+    public int getConnectTimeout() {
+        return Integer.parseInt(getProperty("api.connect.timeout", "5000"));
+    }
+
+    public int getCircuitFailureThreshold() {
+        return Integer.parseInt(getProperty("api.circuit.failure.threshold", "5"));
+    }
+
+    public long getCircuitOpenMs() {
+        return Long.parseLong(getProperty("api.circuit.open.ms", "30000"));
+    }
+
+    /**
+     * Wall-clock budget of one scenario; 0 disables the deadline
+     */
+    public long getScenarioDeadlineMs() {
+        return Long.parseLong(getProperty("scenario.deadline.ms", "0"));
+    }
+
+    public int getPoolMaxTotal() {
+        return Integer.parseInt(getProperty("api.pool.max.total", "200"));
+    }
+
+    public int getPoolMaxPerRoute() {
+        return Integer.parseInt(getProperty("api.pool.max.per.route", "100"));
+    }
+
+    public long getPoolKeepAliveMs() {
+        return Long.parseLong(getProperty("api.pool.keepalive.ms", "30000"));
+    }
+
+    public long getPoolIdleEvictMs() {
+        return Long.parseLong(getProperty("api.pool.idle.evict.ms", "60000"));
+    }
+
+    public long getPoolConnectionTtlMs() {
+        return Long.parseLong(getProperty("api.pool.connection.ttl.ms", "-1"));
+    }
+
+    public int getAsyncMaxConcurrency() {
+        return Integer.parseInt(getProperty("api.async.max.concurrency", "16"));
+    }
+
+    /**
+     * HTTP logging mode: {@code all} prints every exchange, {@code failure-only} buffers exchanges per
+     * scenario and prints them only when it fails, {@code none} disables request/response logging.
+     */
+    public String getLogMode() {
+        return getProperty("api.log.mode", "all");
+    }
+
+    public int getLogBufferSize() {
+        return Integer.parseInt(getProperty("api.log.buffer.size", "50"));
+    }
+
+    public int getLogBufferBodyChars() {
+        return Integer.parseInt(getProperty("api.log.buffer.body.chars", "8192"));
+    }
+
+    public int getBulkConcurrency() {
+        return Integer.parseInt(getProperty("bulk.concurrency", "16"));
+    }
+
+    /**
+     * Page size requested when paging through list endpoints; 0 keeps the server's default.
+     */
+    public int getPaginationPerPage() {
+        return Integer.parseInt(getProperty("pagination.per.page", "0"));
+    }
+
+    /**
+     * Pages requested ahead of the one being consumed, which bounds how many pages are held in memory.
+     */
+    public int getPaginationPrefetch() {
+        return Integer.parseInt(getProperty("pagination.prefetch", "2"));
+    }
+
+    /**
+     * Cases generated per fuzz target; {@code fuzz.cases.per.target} overrides the count the scenario asks for.
+     */
+    public int getFuzzCasesPerTarget(int defaultCases) {
+        return Integer.parseInt(getProperty("fuzz.cases.per.target", String.valueOf(defaultCases)));
+    }
+
+    public int getFuzzConcurrency() {
+        return Integer.parseInt(getProperty("fuzz.concurrency", "64"));
+    }
+
+    /**
+     * Upper bound for the oversized payloads the fuzzer generates.
+     */
+    public int getFuzzMaxPayloadBytes() {
+        return Integer.parseInt(getProperty("fuzz.max.payload.bytes", "1048576"));
+    }
+
+    /**
+     * Requests spent minimizing each distinct fuzz finding; 0 reports the original payloads only.
+     */
+    public int getFuzzMinimizeAttempts() {
+        return Integer.parseInt(getProperty("fuzz.minimize.attempts", "200"));
+    }
+
+    /**
+     * Seed for the fuzz case generator; a fresh one is picked (and reported) when unset.
+     */
+    public long getFuzzSeed() {
+        String seed = getProperty("fuzz.seed", "");
+        return seed.isBlank() ? System.nanoTime() : Long.parseLong(seed);
+    }
+
+    /**
+     * Identifies this node/fork in generated test data. Defaults to a short hash of the host name plus the shard
+     * (when sharded) and the Surefire fork number, so agents and parallel shards on one host never share an id.
+     */
+    public String getDataNodeId() {
+        String nodeId = getProperty("data.node.id", null);
+        if (nodeId != null) {
+            return nodeId;
+        }
+        return "h" + Integer.toString(Math.floorMod(hostName().hashCode(), 36 * 36 * 36 * 36), 36)
+                + (getShardTotal() > 1 ? "s" + getShardIndex() : "")
+                + "f" + System.getProperty("surefire.forkNumber", "0");
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    public String getDataSeed() {
+        return getProperty("data.seed", null);
+    }
+
+    public String getDataEmailDomain() {
+        return getProperty("data.email.domain", "reqres.in");
+    }
+
+    public int getDataPoolSize() {
+        return Integer.parseInt(getProperty("data.pool.size", "10000"));
+    }
+
+    public String getCassetteMode() {
+        return getProperty("cassette.mode", "off");
+    }
+
+    public String getCassettePath() {
+        return getProperty("cassette.path", "src/test/resources/cassettes/reqres.cassette");
+    }
+
+    public boolean isCassetteBodyMatched() {
+        return Boolean.parseBoolean(getProperty("cassette.match.body", "true"));
+    }
+
+    /**
+     * Report writing: {@code sync} (attachments written on the test thread), {@code async} (background writer)
+     * or {@code none} (no HTTP attachments, for fast-startup runs)
+     */
+    public String getReportMode() {
+        return getProperty("report.mode", "sync");
+    }
+
+    public int getReportQueueSize() {
+        return Integer.parseInt(getProperty("report.queue.size", "10000"));
+    }
+
+    public int getReportAttachmentMaxChars() {
+        return Integer.parseInt(getProperty("report.attachment.max.chars", "16384"));
+    }
+
+    public double getReportAttachmentSampleRate() {
+        return Double.parseDouble(getProperty("report.attachment.sample.rate", "1.0"));
+    }
+
+    public String getMetricsExportPath() {
+        return getProperty("metrics.export.path", "target/metrics/latency-histograms.json");
+    }
+
+    public boolean isPerfBaselineEnabled() {
+        return Boolean.parseBoolean(getProperty("perf.baseline.enabled", "true"));
+    }
+
+    /**
+     * Baseline file of this environment, e.g. {@code .perf-baselines/qa.json}; profiles with a different traffic
+     * shape (such as load runs) set {@code perf.baseline.suffix} to keep their own baseline, and every shard of a
+     * sharded run keeps its own, e.g. {@code qa-shard-2.json}.
+     */
+    public String getPerfBaselinePath() {
+        String suffix = getProperty("perf.baseline.suffix", "");
+        return getProperty("perf.baseline.dir", ".perf-baselines") + "/" + environment
+                + (suffix.isBlank() ? "" : "-" + suffix)
+                + (getShardTotal() > 1 ? "-shard-" + getShardIndex() : "") + ".json";
+    }
+
+    /**
+     * Number of previous passing runs the current run is compared against.
+     */
+    public int getPerfBaselineWindow() {
+        return Integer.parseInt(getProperty("perf.baseline.window", "10"));
+    }
+
+    public double getPerfBaselineTolerancePercent() {
+        return Double.parseDouble(getProperty("perf.baseline.tolerance.percent", "25"));
+    }
+
+    /**
+     * Smallest p95/p99 increase that can count as a regression, so sub-millisecond jitter never fails a run.
+     */
+    public double getPerfBaselineMinDeltaMs() {
+        return Double.parseDouble(getProperty("perf.baseline.min.delta.ms", "5"));
+    }
+
+    /**
+     * How many robust standard deviations above the baseline median a percentile must be to regress.
+     */
+    public double getPerfBaselineMaxZScore() {
+        return Double.parseDouble(getProperty("perf.baseline.max.zscore", "3"));
+    }
+
+    public int getPerfBaselineMinSamples() {
+        return Integer.parseInt(getProperty("perf.baseline.min.samples", "10"));
+    }
+
+    public int getPerfBaselineMinRuns() {
+        return Integer.parseInt(getProperty("perf.baseline.min.runs", "3"));
+    }
+
     public String getEnvironment() {
         return environment;
     }
@@ -82,4 +331,137 @@ public class ConfigManager {
     public int getMaxRetries() {
         return Integer.parseInt(getProperty("api.max.retries"));
     }
-}
\ No newline at end of file
+
+    public long getRetryBaseDelayMs() {
+        return Long.parseLong(getProperty("api.retry.base.delay.ms", "100"));
+    }
+
+    public long getRetryMaxDelayMs() {
+        return Long.parseLong(getProperty("api.retry.max.delay.ms", "2000"));
+    }
+
+    public String getRetryStatuses() {
+        return getProperty("api.retry.statuses", "429,500,502,503,504");
+    }
+
+    /**
+     * Retries (and hedges) allowed per request, as a fraction of total traffic
+     */
+    public double getRetryBudgetRatio() {
+        return Double.parseDouble(getProperty("api.retry.budget.ratio", "0.2"));
+    }
+
+    public int getRetryBudgetMaxTokens() {
+        return Integer.parseInt(getProperty("api.retry.budget.max.tokens", "50"));
+    }
+
+    public boolean isHedgingEnabled() {
+        return Boolean.parseBoolean(getProperty("api.hedge.enabled", "false"));
+    }
+
+    public double getHedgePercentile() {
+        return Double.parseDouble(getProperty("api.hedge.percentile", "95"));
+    }
+
+    public long getHedgeMinSamples() {
+        return Long.parseLong(getProperty("api.hedge.min.samples", "20"));
+    }
+
+    public boolean isStubEnabled() {
+        return Boolean.parseBoolean(getProperty("stub.enabled", "false"));
+    }
+
+    public int getStubPort() {
+        return Integer.parseInt(getProperty("stub.port", "0"));
+    }
+
+    public long getStubLatencyMs() {
+        return Long.parseLong(getProperty("stub.latency.ms", "0"));
+    }
+
+    public long getStubJitterMs() {
+        return Long.parseLong(getProperty("stub.jitter.ms", "0"));
+    }
+
+    public double getStubErrorRate() {
+        return Double.parseDouble(getProperty("stub.error.rate", "0"));
+    }
+
+    public int getStubErrorStatus() {
+        return Integer.parseInt(getProperty("stub.error.status", "503"));
+    }
+
+    public String getFeaturesPath() {
+        return getProperty("load.features.path", "src/test/resources/features");
+    }
+
+    public int getLoadMaxInFlight() {
+        return Integer.parseInt(getProperty("load.max.inflight", "10000"));
+    }
+
+    /**
+     * Zero-based shard this JVM runs; with {@code shard.total} > 1 only that shard's scenarios are executed.
+     */
+    public int getShardIndex() {
+        return Integer.parseInt(getProperty("shard.index", "0"));
+    }
+
+    public int getShardTotal() {
+        return Integer.parseInt(getProperty("shard.total", "1"));
+    }
+
+    /**
+     * all | failed-only | failed-first, applied by the Cucumber runners from the scenario history.
+     */
+    public String getRunMode() {
+        return getProperty("run.mode", "all");
+    }
+
+    /**
+     * Whether all JSON schemas are compiled before the first scenario; off in fast-startup runs, where
+     * each schema set is compiled on its first validation instead.
+     */
+    public boolean isSchemaPreloadEnabled() {
+        return Boolean.parseBoolean(getProperty("schema.preload", "true"));
+    }
+
+    public String getStartupExportPath() {
+        return getProperty("startup.export.path", "target/metrics/startup.json");
+    }
+
+    /**
+     * Starts a flight recording with HTTP exchange and step events for the Cucumber run.
+     */
+    public boolean isJfrEnabled() {
+        return Boolean.parseBoolean(getProperty("jfr.enabled", "false"));
+    }
+
+    /**
+     * JDK recording settings for the built-in events: {@code default} (low overhead) or {@code profile}.
+     */
+    public String getJfrSettings() {
+        return getProperty("jfr.settings", "default");
+    }
+
+    public String getJfrOutput() {
+        return getProperty("jfr.output", "target/jfr/test-run.jfr");
+    }
+
+    /**
+     * How often the live flight recorder summary is logged; 0 disables the event stream.
+     */
+    public int getJfrSummaryIntervalSeconds() {
+        return Integer.parseInt(getProperty("jfr.summary.interval.seconds", "30"));
+    }
+
+    public String getHistoryDir() {
+        return getProperty("history.dir", ".test-history");
+    }
+
+    /**
+     * Duration assumed for scenarios that have no history yet, when no other scenario has history either.
+     */
+    public long getShardDefaultDurationMs() {
+        return Long.parseLong(getProperty("shard.default.duration.ms", "1000"));
+    }
+}
@@ -4,6 +4,7 @@ public class EndPoints {
    public static final String SING_UP = "signup";
    public static final String LOG_IN="login";
    public static final String USER_LIST="users?page=2";
+   public static final String USERS="users";
    public static final String SINGLE_USER="users/2";
    public static final String SINGLE_USER_NOT_FOUND="users/23";
    public static final String CREATE_USER="users";
@@ -0,0 +1,7 @@
+package com.automation.data;
+
+/**
+ * Generated user identity for sign-up and user creation.
+ */
+public record Identity(String email, String password, String name, String job) {
+}
@@ -0,0 +1,31 @@
+package com.automation.data;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pre-generated identities handed out once each; when the pool runs dry it falls back to generating on demand,
+ * so identities are never reused.
+ */
+public class IdentityPool {
+    private final Identity[] identities;
+    private final TestDataFactory factory;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    IdentityPool(Identity[] identities, TestDataFactory factory) {
+        this.identities = identities;
+        this.factory = factory;
+    }
+
+    public Identity next() {
+        int index = cursor.getAndIncrement();
+        return index >= 0 && index < identities.length ? identities[index] : factory.nextIdentity();
+    }
+
+    public int size() {
+        return identities.length;
+    }
+
+    public int remaining() {
+        return Math.max(0, identities.length - cursor.get());
+    }
+}
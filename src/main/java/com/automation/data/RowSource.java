@@ -0,0 +1,169 @@
+package com.automation.data;
+
+import io.cucumber.datatable.DataTable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Header-keyed rows read one at a time from a DataTable or a CSV file, so large data files are streamed
+ * instead of loaded up front. CSV files are looked up on the file system first, then on the classpath.
+ */
+public class RowSource implements Iterator<Map<String, String>>, AutoCloseable {
+    private final List<String> header;
+    private final Iterator<List<String>> rows;
+    private final AutoCloseable resource;
+
+    private RowSource(List<String> header, Iterator<List<String>> rows, AutoCloseable resource) {
+        this.header = header;
+        this.rows = rows;
+        this.resource = resource;
+    }
+
+    public static RowSource of(DataTable dataTable) {
+        List<List<String>> cells = dataTable.cells();
+        if (cells.isEmpty()) {
+            return new RowSource(List.of(), cells.iterator(), null);
+        }
+        return new RowSource(cells.get(0), cells.subList(1, cells.size()).iterator(), null);
+    }
+
+    public static RowSource csv(String location) {
+        BufferedReader reader = open(location);
+        try {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                reader.close();
+                throw new IllegalArgumentException("Data file is empty: " + location);
+            }
+            return new RowSource(parseLine(headerLine), new CsvLines(reader), reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading data file " + location, e);
+        }
+    }
+
+    public List<String> getHeader() {
+        return header;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public Map<String, String> next() {
+        List<String> values = rows.next();
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            row.put(header.get(i), i < values.size() ? values.get(i) : null);
+        }
+        return row;
+    }
+
+    @Override
+    public void close() {
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                throw new RuntimeException("Error closing data source: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static BufferedReader open(String location) {
+        try {
+            Path path = Paths.get(location);
+            if (Files.isRegularFile(path)) {
+                return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            }
+            InputStream in = RowSource.class.getClassLoader().getResourceAsStream(location);
+            if (in == null) {
+                throw new IllegalArgumentException("Data file not found: " + location);
+            }
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening data file " + location, e);
+        }
+    }
+
+    /**
+     * Splits one CSV line; fields may be quoted, with {@code ""} as an escaped quote.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static class CsvLines implements Iterator<List<String>> {
+        private final BufferedReader reader;
+        private String nextLine;
+
+        CsvLines(BufferedReader reader) {
+            this.reader = reader;
+            advance();
+        }
+
+        private void advance() {
+            try {
+                do {
+                    nextLine = reader.readLine();
+                } while (nextLine != null && nextLine.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading data file", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public List<String> next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> values = parseLine(nextLine);
+            advance();
+            return values;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.automation.data;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.LogManager;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates test identities that are unique across threads and forks without sharing a lock.
+ * Every value carries a node/fork tag plus a run tag, and a sequence number from a per-thread block that is
+ * reserved from a shared counter once every {@value #BLOCK_SIZE} identities. Random parts come from a
+ * per-thread {@link SplittableRandom} split off one seeded root, so a single-threaded replay with the same
+ * {@code data.seed} reproduces the same data.
+ */
+public class TestDataFactory {
+    private static final int BLOCK_SIZE = 4096;
+    private static final int SEQUENCE_WIDTH = 6;
+    private static final char[] ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890".toCharArray();
+    private static final char[] PASSWORD_CHARS = "abcdefghijkmnpqrstuvwxyzABCDEFGHJKLMNPQRSTUVWXYZ23456789!@#$%".toCharArray();
+    private static final String[] FIRST_NAMES = {"morpheus", "trinity", "neo", "niobe", "tank", "dozer", "apoc",
+            "switch", "mouse", "link", "zee", "ghost", "sparks", "seraph", "lock", "kid"};
+    private static final String[] JOBS = {"leader", "operator", "captain", "pilot", "engineer", "programmer",
+            "commander", "guardian", "medic", "navigator"};
+
+    private final long seed;
+    private final String tag;
+    private final String emailDomain;
+    private final SplittableRandom root;
+    private final AtomicLong nextBlock = new AtomicLong();
+    private final ThreadLocal<ThreadState> state = ThreadLocal.withInitial(this::newThreadState);
+
+    private TestDataFactory(long seed, String nodeId, String emailDomain) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+        this.emailDomain = emailDomain;
+        this.tag = (nodeId.replaceAll("[^A-Za-z0-9]", "") + Long.toString(seed & 0xFFFFFFL, 36)).toLowerCase();
+    }
+
+    private static class Holder {
+        private static final TestDataFactory INSTANCE = create();
+
+        private static TestDataFactory create() {
+            ConfigManager configManager = ConfigManager.getInstance();
+            String configuredSeed = configManager.getDataSeed();
+            long seed = configuredSeed != null ? Long.parseLong(configuredSeed)
+                    : System.nanoTime() ^ ProcessHandle.current().pid() << 32;
+            TestDataFactory factory = new TestDataFactory(seed, configManager.getDataNodeId(), configManager.getDataEmailDomain());
+            LogManager.info("Test data seed {} (replay with -Ddata.seed={} -Ddata.node.id={}), tag {}",
+                    seed, seed, configManager.getDataNodeId(), factory.tag);
+            return factory;
+        }
+    }
+
+    public static TestDataFactory getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Independent factory with a fixed seed, e.g. to replay the data of a failed run.
+     */
+    public static TestDataFactory seeded(long seed, String nodeId) {
+        return new TestDataFactory(seed, nodeId, ConfigManager.getInstance().getDataEmailDomain());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Identity nextIdentity() {
+        ThreadState thread = state.get();
+        String unique = thread.nextUnique();
+        String first = FIRST_NAMES[thread.random.nextInt(FIRST_NAMES.length)];
+        return new Identity(
+                first + "." + unique + "@" + emailDomain,
+                password(thread, 12),
+                capitalize(first) + " " + unique.toUpperCase(),
+                JOBS[thread.random.nextInt(JOBS.length)]);
+    }
+
+    public String nextEmail() {
+        ThreadState thread = state.get();
+        return "user." + thread.nextUnique() + "@" + emailDomain;
+    }
+
+    public String nextPassword(int length) {
+        return password(state.get(), length);
+    }
+
+    public String nextName() {
+        ThreadState thread = state.get();
+        return capitalize(FIRST_NAMES[thread.random.nextInt(FIRST_NAMES.length)]) + " " + thread.nextUnique().toUpperCase();
+    }
+
+    public String nextJob() {
+        return JOBS[state.get().random.nextInt(JOBS.length)];
+    }
+
+    /**
+     * Upper-case alphanumeric string of exactly {@code length} characters, ending in the run tag and a
+     * {@value #SEQUENCE_WIDTH}-digit sequence number and padded in front with random characters. When the tag
+     * does not fit, its leading (node) characters are cut first; the value stays unique within the run as long
+     * as {@code length} is at least {@value #SEQUENCE_WIDTH}, and across nodes only while the whole tag fits.
+     */
+    public String uniqueString(int length) {
+        ThreadState thread = state.get();
+        String sequence = Long.toString(thread.nextSequence(), 36);
+        StringBuilder builder = thread.builder;
+        builder.setLength(0);
+        builder.append(tag);
+        for (int i = sequence.length(); i < SEQUENCE_WIDTH; i++) {
+            builder.append('0');
+        }
+        builder.append(sequence);
+        String unique = builder.length() > length ? builder.substring(builder.length() - length) : builder.toString();
+        builder.setLength(0);
+        for (int i = unique.length(); i < length; i++) {
+            builder.append(ALPHANUMERIC[thread.random.nextInt(ALPHANUMERIC.length)]);
+        }
+        return builder.append(unique.toUpperCase()).toString();
+    }
+
+    /**
+     * Generates {@code size} identities up front so load runs do not pay for generation on the hot path.
+     */
+    public IdentityPool pregenerate(int size) {
+        Identity[] identities = new Identity[size];
+        for (int i = 0; i < size; i++) {
+            identities[i] = nextIdentity();
+        }
+        return new IdentityPool(identities, this);
+    }
+
+    private String password(ThreadState thread, int length) {
+        StringBuilder builder = thread.builder;
+        builder.setLength(0);
+        for (int i = 0; i < length; i++) {
+            builder.append(PASSWORD_CHARS[thread.random.nextInt(PASSWORD_CHARS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private ThreadState newThreadState() {
+        SplittableRandom random;
+        synchronized (root) {
+            random = root.split();
+        }
+        return new ThreadState(random);
+    }
+
+    private final class ThreadState {
+        private final SplittableRandom random;
+        private final StringBuilder builder = new StringBuilder(32);
+        private long next;
+        private long limit;
+
+        ThreadState(SplittableRandom random) {
+            this.random = random;
+        }
+
+        String nextUnique() {
+            return tag + "-" + Long.toString(nextSequence(), 36);
+        }
+
+        long nextSequence() {
+            if (next == limit) {
+                next = nextBlock.getAndIncrement() * BLOCK_SIZE;
+                limit = next + BLOCK_SIZE;
+            }
+            return next++;
+        }
+    }
+}
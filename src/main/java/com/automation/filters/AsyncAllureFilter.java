@@ -0,0 +1,98 @@
+package com.automation.filters;
+
+import com.automation.reporting.AttachmentPolicy;
+import com.automation.reporting.ReportingQueue;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentContent;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Drop-in replacement for {@code AllureRestAssured} that keeps report work off the test thread. The test
+ * thread only snapshots the (truncated) exchange and registers the attachments on the current step; template
+ * rendering and file writes happen on the {@link ReportingQueue}. Exchanges are sampled by {@link AttachmentPolicy}.
+ */
+public class AsyncAllureFilter implements Filter {
+    private static final String HTML = "text/html";
+    private static final String HTML_EXTENSION = ".html";
+    private static final ThreadLocal<FreemarkerAttachmentRenderer> REQUEST_RENDERER =
+            ThreadLocal.withInitial(() -> new FreemarkerAttachmentRenderer("http-request.ftl"));
+    private static final ThreadLocal<FreemarkerAttachmentRenderer> RESPONSE_RENDERER =
+            ThreadLocal.withInitial(() -> new FreemarkerAttachmentRenderer("http-response.ftl"));
+
+    private final AttachmentPolicy policy;
+    private final ReportingQueue queue;
+
+    public AsyncAllureFilter(AttachmentPolicy policy, ReportingQueue queue) {
+        this.policy = policy;
+        this.queue = queue;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (!policy.shouldAttach(response.getStatusCode())) {
+            return response;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return response;
+        }
+
+        HttpRequestAttachment.Builder requestBuilder = HttpRequestAttachment.Builder.create("Request", requestSpec.getURI())
+                .setMethod(requestSpec.getMethod())
+                .setHeaders(toMap(requestSpec.getHeaders()));
+        // The builder rejects a null body, which every GET and DELETE has
+        if (requestSpec.getBody() != null) {
+            requestBuilder.setBody(policy.truncate(bodyOf(requestSpec.getBody())));
+        }
+        HttpRequestAttachment request = requestBuilder.build();
+        HttpResponseAttachment httpResponse = HttpResponseAttachment.Builder
+                .create(response.getStatusLine() == null ? "Response" : response.getStatusLine())
+                .setResponseCode(response.getStatusCode())
+                .setHeaders(toMap(response.getHeaders()))
+                .setBody(policy.truncate(response.asString()))
+                .build();
+
+        String requestSource = lifecycle.prepareAttachment(request.getName(), HTML, HTML_EXTENSION);
+        String responseSource = lifecycle.prepareAttachment(httpResponse.getName(), HTML, HTML_EXTENSION);
+        queue.submit(() -> {
+            write(lifecycle, requestSource, REQUEST_RENDERER.get(), request);
+            write(lifecycle, responseSource, RESPONSE_RENDERER.get(), httpResponse);
+        });
+        return response;
+    }
+
+    private static void write(AllureLifecycle lifecycle, String source, FreemarkerAttachmentRenderer renderer, AttachmentData data) {
+        AttachmentContent content = renderer.render(data);
+        lifecycle.writeAttachment(source, new ByteArrayInputStream(content.getContent().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Map<String, String> toMap(Iterable<Header> headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (Header header : headers) {
+            map.merge(header.getName(), header.getValue(), (first, second) -> first + "; " + second);
+        }
+        return map;
+    }
+
+    private static String bodyOf(Object body) {
+        return body instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(body);
+    }
+}
@@ -0,0 +1,29 @@
+package com.automation.filters;
+
+import com.automation.utils.ExchangeLogBuffer;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Captures each exchange into the thread's {@link ExchangeLogBuffer} instead of printing it;
+ * the hooks print the buffer only for failed scenarios.
+ */
+public class BufferedLoggingFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            ExchangeLogBuffer.record(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders(),
+                    requestSpec.getBody(), response);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.automation.filters;
+
+import com.automation.metrics.MetricsRegistry;
+import com.automation.metrics.StartupTimer;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records the latency of every completed call into {@link MetricsRegistry}, keyed by method and the
+ * path as written by the caller (before the base URI and query are applied). The run's first exchange
+ * also marks the time-to-first-request in {@link StartupTimer}.
+ */
+public class LatencyRecordingFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        StartupTimer.requestSent();
+        long started = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        StartupTimer.responseReceived();
+        MetricsRegistry.record(requestSpec.getMethod(), requestSpec.getUserDefinedPath(), System.nanoTime() - started);
+        return response;
+    }
+}
@@ -0,0 +1,35 @@
+package com.automation.filters;
+
+import io.restassured.response.Response;
+
+/**
+ * Response time of an exchange, including responses the framework builds itself (replayed from a cassette or
+ * returned by a winning hedge). RestAssured only times the responses it received, so built responses carry
+ * their time in the {@value #HEADER} header instead.
+ */
+public class ResponseTimes {
+    /** Milliseconds the exchange behind a built response took */
+    public static final String HEADER = "X-Framework-Response-Time-Ms";
+    /** Present on responses replayed from a cassette */
+    public static final String REPLAYED_HEADER = "X-Framework-Replayed";
+
+    private ResponseTimes() {
+    }
+
+    /**
+     * Returns the response time in milliseconds, or null when none is known (a replay of an exchange recorded
+     * before times were stored).
+     */
+    public static Long millisOf(Response response) {
+        String header = response.getHeader(HEADER);
+        if (header != null) {
+            return Long.parseLong(header.trim());
+        }
+        long time = response.getTime();
+        return time >= 0 ? time : null;
+    }
+
+    public static boolean isReplayed(Response response) {
+        return response.getHeader(REPLAYED_HEADER) != null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.automation.fuzz;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One generated payload: the endpoint it goes to, the kind of mutation and a short description of it
+ * (e.g. {@code userId -> array}) used to group findings.
+ */
+public record FuzzCase(String endpoint, MutationKind kind, String mutation, byte[] body) {
+
+    /**
+     * Body for reports: at most {@code maxChars} characters, with control and invalid bytes escaped.
+     */
+    public String preview(int maxChars) {
+        return preview(body, maxChars);
+    }
+
+    static String preview(byte[] bytes, int maxChars) {
+        String text = new String(bytes, 0, Math.min(bytes.length, maxChars * 4), StandardCharsets.UTF_8);
+        StringBuilder preview = new StringBuilder();
+        for (int i = 0; i < text.length() && preview.length() < maxChars; i++) {
+            char c = text.charAt(i);
+            if (c < 0x20 || c == 0xFFFD) {
+                preview.append(String.format("\\u%04x", (int) c));
+            } else {
+                preview.append(c);
+            }
+        }
+        if (preview.length() >= maxChars || bytes.length > maxChars * 4) {
+            preview.append("... (").append(bytes.length).append(" bytes)");
+        }
+        return preview.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.automation.fuzz;
+
+import com.automation.clients.AsyncApiClient;
+import com.automation.clients.BatchRequestExecutor;
+import com.automation.utils.LogManager;
+import io.restassured.response.Response;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Fires generated payloads at the targets on the async client's unfiltered path with {@code concurrency} requests
+ * in flight, then minimizes one representative of every distinct finding. Cases are generated chunk by chunk, so
+ * memory stays bounded by the chunk size rather than the number of cases.
+ */
+public class FuzzEngine {
+    private static final int CHUNKS_PER_CONCURRENCY = 8;
+
+    private final AsyncApiClient client;
+    private final PayloadMutator mutator;
+    private final int concurrency;
+    private final int minimizeAttempts;
+
+    /**
+     * @param minimizeAttempts request budget per distinct finding; 0 disables minimization
+     */
+    public FuzzEngine(AsyncApiClient client, int maxBytes, int concurrency, int minimizeAttempts) {
+        this.client = client;
+        this.mutator = new PayloadMutator(maxBytes);
+        this.concurrency = Math.max(1, concurrency);
+        this.minimizeAttempts = minimizeAttempts;
+    }
+
+    public FuzzReport run(List<FuzzTarget> targets, int casesPerTarget, long seed) {
+        FuzzReport report = new FuzzReport(seed);
+        SplittableRandom random = new SplittableRandom(seed);
+        long total = (long) casesPerTarget * targets.size();
+        int chunkSize = concurrency * CHUNKS_PER_CONCURRENCY;
+        LogManager.info("Fuzzing {} endpoints with {} cases at concurrency {}, seed {}",
+                targets.size(), total, concurrency, seed);
+        long start = System.nanoTime();
+        for (long sent = 0; sent < total; ) {
+            List<FuzzCase> chunk = new ArrayList<>(chunkSize);
+            for (; chunk.size() < chunkSize && sent < total; sent++) {
+                chunk.add(mutator.next(targets.get((int) (sent % targets.size())), random));
+            }
+            List<Supplier<CompletableFuture<FuzzResult>>> requests = new ArrayList<>(chunk.size());
+            chunk.forEach(fuzzCase -> requests.add(() -> send(fuzzCase)));
+            BatchRequestExecutor.sendAll(requests, concurrency).join().forEach(report::record);
+        }
+        report.setDurationNanos(System.nanoTime() - start);
+        minimize(report);
+        return report;
+    }
+
+    /**
+     * Never fails: transport errors become TIMEOUT or CONNECTION_ERROR results.
+     */
+    CompletableFuture<FuzzResult> send(FuzzCase fuzzCase) {
+        return client.sendUnfiltered("POST", fuzzCase.endpoint(), fuzzCase.body())
+                .handle((response, error) -> error == null ? classify(fuzzCase, response) : classify(fuzzCase, error));
+    }
+
+    private static FuzzResult classify(FuzzCase fuzzCase, Response response) {
+        String body = response.asString();
+        return new FuzzResult(fuzzCase, FuzzOutcome.ofStatus(response.getStatusCode()), response.getStatusCode(),
+                body.length() > 200 ? body.substring(0, 200) : body);
+    }
+
+    private static FuzzResult classify(FuzzCase fuzzCase, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        FuzzOutcome outcome = cause instanceof HttpTimeoutException ? FuzzOutcome.TIMEOUT : FuzzOutcome.CONNECTION_ERROR;
+        return new FuzzResult(fuzzCase, outcome, 0, cause.getClass().getSimpleName()
+                + (cause instanceof ConnectException || cause.getMessage() == null ? "" : ": " + cause.getMessage()));
+    }
+
+    /**
+     * Timeouts are not minimized: every attempt could wait for the full request timeout.
+     */
+    private void minimize(FuzzReport report) {
+        if (minimizeAttempts <= 0) {
+            return;
+        }
+        PayloadMinimizer minimizer = new PayloadMinimizer(minimizeAttempts);
+        for (FuzzReport.Finding finding : report.getFindings()) {
+            FuzzResult original = finding.getFirst();
+            if (original.outcome() == FuzzOutcome.TIMEOUT) {
+                continue;
+            }
+            FuzzCase fuzzCase = original.fuzzCase();
+            byte[] minimized = minimizer.minimize(fuzzCase.body(), candidate -> send(new FuzzCase(fuzzCase.endpoint(),
+                    fuzzCase.kind(), fuzzCase.mutation(), candidate)).join().sameFailure(original));
+            finding.setMinimized(minimized);
+            LogManager.debug("Minimized {} finding from {} to {} bytes in {} requests", fuzzCase.endpoint(),
+                    fuzzCase.body().length, minimized.length, minimizer.getAttempts());
+        }
+    }
+}
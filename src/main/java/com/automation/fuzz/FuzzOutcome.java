@@ -0,0 +1,34 @@
+package com.automation.fuzz;
+
+/**
+ * How the service handled a fuzz case. A clean 4xx rejection is expected; anything flagged as a finding is reported.
+ */
+public enum FuzzOutcome {
+    /** 4xx: the payload was rejected as the client's fault */
+    REJECTED(false),
+    /** 2xx/3xx: the payload was accepted */
+    ACCEPTED(false),
+    /** 5xx */
+    SERVER_ERROR(true),
+    /** No response within the request timeout */
+    TIMEOUT(true),
+    /** Connection refused, reset or closed before a response */
+    CONNECTION_ERROR(true);
+
+    private final boolean finding;
+
+    FuzzOutcome(boolean finding) {
+        this.finding = finding;
+    }
+
+    public boolean isFinding() {
+        return finding;
+    }
+
+    public static FuzzOutcome ofStatus(int status) {
+        if (status >= 500) {
+            return SERVER_ERROR;
+        }
+        return status >= 400 ? REJECTED : ACCEPTED;
+    }
+}
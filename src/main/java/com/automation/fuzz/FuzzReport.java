@@ -0,0 +1,114 @@
+package com.automation.fuzz;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome counts per endpoint and mutation kind, plus the distinct findings of a fuzz run. Findings are grouped by
+ * {@link FuzzResult#signature()}, so a defect hit by hundreds of cases is reported once with its occurrence count.
+ */
+public class FuzzReport {
+    private final Map<String, Map<FuzzOutcome, Long>> outcomes = new TreeMap<>();
+    private final Map<MutationKind, Long> findingsByKind = new EnumMap<>(MutationKind.class);
+    private final Map<String, Finding> findings = new LinkedHashMap<>();
+    private final long seed;
+    private long cases;
+    private long durationNanos;
+
+    FuzzReport(long seed) {
+        this.seed = seed;
+    }
+
+    void record(FuzzResult result) {
+        cases++;
+        outcomes.computeIfAbsent(result.fuzzCase().endpoint(), endpoint -> new EnumMap<>(FuzzOutcome.class))
+                .merge(result.outcome(), 1L, Long::sum);
+        if (result.outcome().isFinding()) {
+            findingsByKind.merge(result.fuzzCase().kind(), 1L, Long::sum);
+            findings.computeIfAbsent(result.signature(), signature -> new Finding(result)).occurrences++;
+        }
+    }
+
+    void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getCases() {
+        return cases;
+    }
+
+    public double getCasesPerMinute() {
+        return durationNanos == 0 ? 0 : cases / (durationNanos / 6e10);
+    }
+
+    public List<Finding> getFindings() {
+        return new ArrayList<>(findings.values());
+    }
+
+    public boolean hasFindings() {
+        return !findings.isEmpty();
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-24s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Rejected", "Accepted", "5xx", "Timeout", "Conn err"));
+        outcomes.forEach((endpoint, counts) -> table.append(String.format("%-24s %9d %9d %9d %9d %9d%n", endpoint,
+                counts.getOrDefault(FuzzOutcome.REJECTED, 0L), counts.getOrDefault(FuzzOutcome.ACCEPTED, 0L),
+                counts.getOrDefault(FuzzOutcome.SERVER_ERROR, 0L), counts.getOrDefault(FuzzOutcome.TIMEOUT, 0L),
+                counts.getOrDefault(FuzzOutcome.CONNECTION_ERROR, 0L))));
+        table.append(String.format("Total: %d cases in %.1f s (%.0f cases/min), seed %d, %d distinct findings%n",
+                cases, durationNanos / 1e9, getCasesPerMinute(), seed, findings.size()));
+        if (!findingsByKind.isEmpty()) {
+            table.append("Findings by mutation kind: ").append(findingsByKind).append(System.lineSeparator());
+        }
+        int index = 1;
+        for (Finding finding : findings.values()) {
+            FuzzResult first = finding.first;
+            table.append(String.format("%n#%d %s %s%s x%d: %s%n", index++, first.fuzzCase().endpoint(), first.outcome(),
+                    first.status() > 0 ? " " + first.status() : "", finding.occurrences, first.fuzzCase().mutation()));
+            table.append("    detail:    ").append(first.detail()).append(System.lineSeparator());
+            table.append("    payload:   ").append(first.fuzzCase().preview(160)).append(System.lineSeparator());
+            if (finding.minimized != null) {
+                table.append("    minimized: ").append(FuzzCase.preview(finding.minimized, 160)).append(System.lineSeparator());
+            }
+        }
+        return table.toString();
+    }
+
+    /**
+     * One distinct failure: the first case that hit it, how often it was hit, and its minimized payload if any
+     */
+    public static class Finding {
+        private final FuzzResult first;
+        private long occurrences;
+        private byte[] minimized;
+
+        Finding(FuzzResult first) {
+            this.first = first;
+        }
+
+        public FuzzResult getFirst() {
+            return first;
+        }
+
+        public long getOccurrences() {
+            return occurrences;
+        }
+
+        public byte[] getMinimized() {
+            return minimized;
+        }
+
+        void setMinimized(byte[] minimized) {
+            this.minimized = minimized;
+        }
+    }
+}
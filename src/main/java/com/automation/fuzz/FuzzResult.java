@@ -0,0 +1,24 @@
+package com.automation.fuzz;
+
+/**
+ * Classified response to one fuzz case; {@code status} is 0 when no response arrived.
+ */
+public record FuzzResult(FuzzCase fuzzCase, FuzzOutcome outcome, int status, String detail) {
+
+    /**
+     * Groups results that are most likely the same defect: endpoint, outcome, status, mutation, and the response
+     * or error text with digits masked so ids and timestamps don't split one failure into many.
+     */
+    public String signature() {
+        String normalized = detail == null ? "" : detail.replaceAll("\\d+", "#");
+        return String.join("|", fuzzCase.endpoint(), outcome.name(), Integer.toString(status), fuzzCase.kind().name(),
+                fuzzCase.mutation(), normalized.length() > 120 ? normalized.substring(0, 120) : normalized);
+    }
+
+    /**
+     * Whether {@code other} fails the same way; used to keep minimization on the original failure.
+     */
+    public boolean sameFailure(FuzzResult other) {
+        return outcome == other.outcome && status == other.status;
+    }
+}
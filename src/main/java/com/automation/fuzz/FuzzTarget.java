@@ -0,0 +1,56 @@
+package com.automation.fuzz;
+
+import com.automation.assertions.JsonTreeCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * POST endpoint to fuzz: a valid seed body built from a request model, plus the JSON type and constraints of each
+ * field. Those come from a JSON schema when one exists, and are otherwise inferred from the seed's values.
+ */
+public record FuzzTarget(String endpoint, ObjectNode seed, Map<String, JsonNode> fields) {
+
+    public static FuzzTarget of(String endpoint, Object model) {
+        return of(endpoint, model, null);
+    }
+
+    /**
+     * @param schemaResource classpath location such as {@code schemas/post-schema.json}, or null
+     */
+    public static FuzzTarget of(String endpoint, Object model, String schemaResource) {
+        ObjectNode seed = JsonTreeCache.mapper().valueToTree(model);
+        Map<String, JsonNode> fields = new LinkedHashMap<>();
+        JsonNode properties = schemaResource == null ? null : loadSchema(schemaResource).path("properties");
+        if (properties != null && properties.isObject()) {
+            properties.properties().forEach(field -> fields.put(field.getKey(), field.getValue()));
+        }
+        for (Map.Entry<String, JsonNode> field : seed.properties()) {
+            fields.computeIfAbsent(field.getKey(), name -> JsonNodeFactory.instance.objectNode()
+                    .put("type", field.getValue().isIntegralNumber() ? "integer" : field.getValue().isNumber() ? "number"
+                            : field.getValue().isBoolean() ? "boolean" : "string"));
+        }
+        return new FuzzTarget(endpoint, seed, fields);
+    }
+
+    public String type(String field) {
+        return fields.get(field).path("type").asText("string");
+    }
+
+    private static JsonNode loadSchema(String resource) {
+        try (InputStream in = FuzzTarget.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + resource);
+            }
+            return JsonTreeCache.mapper().readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading schema " + resource, e);
+        }
+    }
+}
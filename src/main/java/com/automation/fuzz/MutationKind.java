@@ -0,0 +1,19 @@
+package com.automation.fuzz;
+
+/**
+ * Families of invalid payloads generated by {@link PayloadMutator}
+ */
+public enum MutationKind {
+    /** Not valid JSON: truncated, unbalanced, single-quoted, invalid UTF-8, empty or non-object bodies */
+    MALFORMED,
+    /** Valid JSON that is far larger than any real request */
+    OVERSIZED,
+    /** Arrays or objects nested thousands of levels deep */
+    DEEPLY_NESTED,
+    /** A field holding a value of the wrong JSON type */
+    TYPE_CONFUSED,
+    /** A field of the right type just outside, or at the edge of, its valid range */
+    BOUNDARY,
+    /** Missing required fields, unknown or duplicate properties */
+    STRUCTURAL
+}
@@ -0,0 +1,70 @@
+package com.automation.fuzz;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Delta debugging (ddmin) over payload bytes: repeatedly keeps the smallest chunk, or removes the chunk, that still
+ * reproduces the failure, refining the chunk size until no single chunk can go. Bounded by a request budget, since
+ * every attempt is a live request.
+ */
+public class PayloadMinimizer {
+    private final int maxAttempts;
+    private int attempts;
+
+    public PayloadMinimizer(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public byte[] minimize(byte[] input, Predicate<byte[]> reproduces) {
+        attempts = 0;
+        byte[] current = input;
+        int granularity = 2;
+        while (current.length >= 2 && attempts < maxAttempts) {
+            int chunk = (current.length + granularity - 1) / granularity;
+            byte[] reduced = null;
+            for (int start = 0; start < current.length && reduced == null && attempts < maxAttempts; start += chunk) {
+                byte[] subset = Arrays.copyOfRange(current, start, Math.min(start + chunk, current.length));
+                if (test(subset, reproduces)) {
+                    reduced = subset;
+                    granularity = 2;
+                }
+            }
+            for (int start = 0; start < current.length && reduced == null && attempts < maxAttempts && granularity > 2;
+                 start += chunk) {
+                byte[] complement = without(current, start, Math.min(start + chunk, current.length));
+                if (test(complement, reproduces)) {
+                    reduced = complement;
+                    granularity--;
+                }
+            }
+            if (reduced != null) {
+                current = reduced;
+            } else if (granularity >= current.length) {
+                break;
+            } else {
+                granularity = Math.min(current.length, granularity * 2);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Requests spent by the last {@link #minimize} call.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    private boolean test(byte[] candidate, Predicate<byte[]> reproduces) {
+        attempts++;
+        return reproduces.test(candidate);
+    }
+
+    private static byte[] without(byte[] bytes, int from, int to) {
+        byte[] result = new byte[bytes.length - (to - from)];
+        System.arraycopy(bytes, 0, result, 0, from);
+        System.arraycopy(bytes, to, result, from, bytes.length - to);
+        return result;
+    }
+}
@@ -0,0 +1,224 @@
+package com.automation.fuzz;
+
+import com.automation.assertions.JsonTreeCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Derives invalid payloads from a target's valid seed body. Every case is a pure function of the random source,
+ * so a run is reproduced exactly by reusing its seed.
+ */
+public class PayloadMutator {
+    private static final MutationKind[] KINDS = MutationKind.values();
+    /** Stands in for a field value in the serialized seed so raw, possibly invalid, JSON can be spliced in */
+    private static final String PLACEHOLDER = "\u0001fuzz\u0001";
+    private static final int[] NESTING_DEPTHS = {64, 512, 2048, 10_000, 50_000};
+    private static final String[] HOSTILE_STRINGS = {
+            " ", "\t\n", "\\u0000", "\\uD800", "\u202Eabc", "\uD83D\uDE00\uD83D\uDE00", "' OR '1'='1",
+            "<script>alert(1)</script>", "%s%s%n", "${jndi:ldap://localhost/a}", "../../etc/passwd", "\\\"}", "e\u0301\u0301\u0301"
+    };
+
+    private final int maxBytes;
+
+    /**
+     * @param maxBytes upper bound for oversized bodies
+     */
+    public PayloadMutator(int maxBytes) {
+        this.maxBytes = Math.max(maxBytes, 1024);
+    }
+
+    public FuzzCase next(FuzzTarget target, SplittableRandom random) {
+        MutationKind kind = KINDS[random.nextInt(KINDS.length)];
+        List<String> fields = new ArrayList<>(target.fields().keySet());
+        String field = fields.get(random.nextInt(fields.size()));
+        return switch (kind) {
+            case MALFORMED -> malformed(target, random);
+            case OVERSIZED -> oversized(target, field, random);
+            case DEEPLY_NESTED -> deeplyNested(target, field, random);
+            case TYPE_CONFUSED -> typeConfused(target, field, random);
+            case BOUNDARY -> boundary(target, field, random);
+            case STRUCTURAL -> structural(target, field, random);
+        };
+    }
+
+    private FuzzCase malformed(FuzzTarget target, SplittableRandom random) {
+        String seed = serialize(target.seed());
+        int variant = random.nextInt(10);
+        return switch (variant) {
+            case 0 -> malformedCase(target, "truncated", seed.substring(0, 1 + random.nextInt(seed.length() - 1)));
+            case 1 -> malformedCase(target, "unclosed object", seed.substring(0, seed.length() - 1));
+            case 2 -> malformedCase(target, "trailing comma", seed.substring(0, seed.length() - 1) + ",}");
+            case 3 -> malformedCase(target, "single quotes", seed.replace('"', '\''));
+            case 4 -> malformedCase(target, "unquoted keys", seed.replaceAll("\"(\\w+)\":", "$1:"));
+            case 5 -> {
+                byte[] bytes = seed.getBytes(StandardCharsets.UTF_8);
+                ByteArrayOutputStream body = new ByteArrayOutputStream(bytes.length + 2);
+                int at = 1 + random.nextInt(bytes.length - 1);
+                body.write(bytes, 0, at);
+                body.write(0xC3);
+                body.write(0x28);
+                body.write(bytes, at, bytes.length - at);
+                yield new FuzzCase(target.endpoint(), MutationKind.MALFORMED, "invalid utf-8", body.toByteArray());
+            }
+            case 6 -> {
+                byte[] garbage = new byte[1 + random.nextInt(256)];
+                for (int i = 0; i < garbage.length; i++) {
+                    garbage[i] = (byte) random.nextInt(256);
+                }
+                yield new FuzzCase(target.endpoint(), MutationKind.MALFORMED, "random bytes", garbage);
+            }
+            case 7 -> malformedCase(target, "empty body", "");
+            case 8 -> {
+                String[] literals = {"null", "[]", "\"text\"", "42", "true", "[" + seed + "]"};
+                yield malformedCase(target, "non-object body", literals[random.nextInt(literals.length)]);
+            }
+            default -> malformedCase(target, "control characters", "\uFEFF" + seed.replaceFirst(":", ":\u0000"));
+        };
+    }
+
+    private FuzzCase oversized(FuzzTarget target, String field, SplittableRandom random) {
+        int size = 64 * 1024 + random.nextInt(Math.max(1, maxBytes - 64 * 1024));
+        StringBuilder raw = new StringBuilder(size + 16);
+        String mutation;
+        switch (random.nextInt(3)) {
+            case 0 -> {
+                mutation = field + " -> long string";
+                raw.append('"');
+                char fill = (char) ('a' + random.nextInt(26));
+                while (raw.length() < size) {
+                    raw.append(fill);
+                }
+                raw.append('"');
+            }
+            case 1 -> {
+                mutation = field + " -> large array";
+                raw.append('[');
+                while (raw.length() < size) {
+                    raw.append(random.nextInt(1000)).append(',');
+                }
+                raw.setCharAt(raw.length() - 1, ']');
+            }
+            default -> {
+                mutation = "many extra properties";
+                String seed = serialize(target.seed());
+                raw.append(seed, 0, seed.length() - 1);
+                for (int i = 0; raw.length() < size; i++) {
+                    raw.append(",\"extra").append(i).append("\":").append(i);
+                }
+                return new FuzzCase(target.endpoint(), MutationKind.OVERSIZED, mutation,
+                        raw.append('}').toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return withRaw(target, field, MutationKind.OVERSIZED, mutation, raw.toString());
+    }
+
+    private FuzzCase deeplyNested(FuzzTarget target, String field, SplittableRandom random) {
+        int depth = NESTING_DEPTHS[random.nextInt(NESTING_DEPTHS.length)];
+        boolean arrays = random.nextBoolean();
+        String open = arrays ? "[" : "{\"a\":";
+        String close = arrays ? "]" : "}";
+        StringBuilder raw = new StringBuilder(depth * (open.length() + 1) + 1);
+        raw.append(open.repeat(depth)).append(arrays ? "" : "1").append(close.repeat(depth));
+        return withRaw(target, field, MutationKind.DEEPLY_NESTED,
+                field + " -> " + (arrays ? "arrays" : "objects") + " nested " + depth + " deep", raw.toString());
+    }
+
+    private FuzzCase typeConfused(FuzzTarget target, String field, SplittableRandom random) {
+        String[][] values = switch (target.type(field)) {
+            case "integer", "number" -> new String[][]{{"string", "\"1\""}, {"boolean", "true"}, {"array", "[1]"},
+                    {"object", "{}"}, {"null", "null"}, {"float", "1.5"}};
+            case "boolean" -> new String[][]{{"string", "\"true\""}, {"number", "1"}, {"array", "[true]"},
+                    {"null", "null"}};
+            default -> new String[][]{{"number", "123"}, {"boolean", "false"}, {"array", "[\"a\"]"},
+                    {"object", "{\"$ne\":null}"}, {"null", "null"}};
+        };
+        String[] value = values[random.nextInt(values.length)];
+        return withRaw(target, field, MutationKind.TYPE_CONFUSED, field + " -> " + value[0], value[1]);
+    }
+
+    private FuzzCase boundary(FuzzTarget target, String field, SplittableRandom random) {
+        JsonNode schema = target.fields().get(field);
+        String type = target.type(field);
+        if ("integer".equals(type) || "number".equals(type)) {
+            long minimum = schema.path("minimum").asLong(0);
+            String[] values = {Long.toString(minimum - 1), "0", "-1", "-0", "2147483648", "9223372036854775808",
+                    "-9223372036854775809", "1e309", "1E2", "0.0000001", "1" + "0".repeat(400)};
+            String value = values[random.nextInt(values.length)];
+            return withRaw(target, field, MutationKind.BOUNDARY, field + " -> " + abbreviate(value), value);
+        }
+        int variant = random.nextInt(HOSTILE_STRINGS.length + 1);
+        String value = variant == HOSTILE_STRINGS.length ? "" : HOSTILE_STRINGS[variant];
+        String mutation = field + " -> " + (value.isEmpty() ? "empty string" : "string #" + variant);
+        // Escaped, so the body stays valid JSON and only the value is hostile
+        return withRaw(target, field, MutationKind.BOUNDARY, mutation, TextNode.valueOf(value).toString());
+    }
+
+    private FuzzCase structural(FuzzTarget target, String field, SplittableRandom random) {
+        ObjectNode body = target.seed().deepCopy();
+        switch (random.nextInt(5)) {
+            case 0 -> {
+                body.remove(field);
+                return jsonCase(target, "missing " + field, body);
+            }
+            case 1 -> {
+                return jsonCase(target, "empty object", body.removeAll());
+            }
+            case 2 -> {
+                body.put("unexpected", "value");
+                return jsonCase(target, "unknown property", body);
+            }
+            case 3 -> {
+                String seed = serialize(body);
+                String duplicate = seed.substring(0, seed.length() - 1) + ",\"" + field + "\":\"duplicate\"}";
+                return malformedCase(target, "duplicate " + field, duplicate, MutationKind.STRUCTURAL);
+            }
+            default -> {
+                body.put("", "blank key");
+                return jsonCase(target, "blank property name", body);
+            }
+        }
+    }
+
+    /**
+     * Seed body with {@code field}'s value replaced by {@code rawJson}, written verbatim.
+     */
+    private static FuzzCase withRaw(FuzzTarget target, String field, MutationKind kind, String mutation, String rawJson) {
+        ObjectNode body = target.seed().deepCopy();
+        body.put(field, PLACEHOLDER);
+        String json = serialize(body).replace(serialize(body.get(field)), rawJson);
+        return new FuzzCase(target.endpoint(), kind, mutation, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FuzzCase jsonCase(FuzzTarget target, String mutation, JsonNode body) {
+        return new FuzzCase(target.endpoint(), MutationKind.STRUCTURAL, mutation,
+                serialize(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FuzzCase malformedCase(FuzzTarget target, String mutation, String body) {
+        return malformedCase(target, mutation, body, MutationKind.MALFORMED);
+    }
+
+    private static FuzzCase malformedCase(FuzzTarget target, String mutation, String body, MutationKind kind) {
+        return new FuzzCase(target.endpoint(), kind, mutation, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String serialize(JsonNode node) {
+        try {
+            return JsonTreeCache.mapper().writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing fuzz seed", e);
+        }
+    }
+
+    private static String abbreviate(String value) {
+        return value.length() > 24 ? value.substring(0, 12) + "...(" + value.length() + " chars)" : value;
+    }
+}
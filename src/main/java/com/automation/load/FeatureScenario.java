@@ -0,0 +1,18 @@
+package com.automation.load;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scenario read from a feature file: name, effective tags (feature, rule, scenario and examples), steps in order,
+ * and the file and line of its {@code Scenario:} / {@code Scenario Outline:} keyword
+ */
+public record FeatureScenario(String name, Set<String> tags, List<Step> steps, Path file, int line) {
+
+    /**
+     * Step text without its Gherkin keyword, plus an optional data table and doc string
+     */
+    public record Step(String text, List<List<String>> table, String docString) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.automation.load;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Background;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Feature;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.ParseError;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleDocString;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleStepArgument;
+import io.cucumber.messages.types.PickleTableCell;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.Step;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads feature files with Cucumber's own Gherkin parser and turns their pickles into {@link FeatureScenario}s,
+ * so rules, outlines and their examples expand exactly as Cucumber runs them. Each examples row becomes its own
+ * scenario, located at its outline. Background steps are skipped because they only prepare the client.
+ * Invalid Gherkin fails with an {@link IllegalArgumentException} naming the file and line.
+ */
+public class FeatureScenarioParser {
+    private final GherkinParser parser = GherkinParser.builder()
+            .includeSource(false)
+            .build();
+
+    public List<FeatureScenario> parseDirectory(Path featuresDir) {
+        try (Stream<Path> files = Files.walk(featuresDir)) {
+            List<FeatureScenario> scenarios = new ArrayList<>();
+            for (Path file : files.filter(p -> p.toString().endsWith(".feature")).sorted().collect(Collectors.toList())) {
+                scenarios.addAll(parse(file));
+            }
+            return scenarios;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read features from " + featuresDir, e);
+        }
+    }
+
+    public List<FeatureScenario> parse(Path featureFile) throws IOException {
+        List<Envelope> envelopes;
+        try (Stream<Envelope> parsed = parser.parse(featureFile)) {
+            envelopes = parsed.collect(Collectors.toList());
+        }
+        Map<String, Integer> lines = new HashMap<>();
+        Set<String> backgroundSteps = new HashSet<>();
+        List<FeatureScenario> scenarios = new ArrayList<>();
+        for (Envelope envelope : envelopes) {
+            envelope.getParseError().ifPresent(error -> {
+                throw new IllegalArgumentException(describe(featureFile, error));
+            });
+            envelope.getGherkinDocument().flatMap(GherkinDocument::getFeature)
+                    .ifPresent(feature -> index(feature, lines, backgroundSteps));
+            envelope.getPickle().ifPresent(pickle -> scenarios.add(toScenario(pickle, featureFile, lines, backgroundSteps)));
+        }
+        return scenarios;
+    }
+
+    private static FeatureScenario toScenario(Pickle pickle, Path file, Map<String, Integer> lines, Set<String> backgroundSteps) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (PickleTag tag : pickle.getTags()) {
+            tags.add(tag.getName());
+        }
+        List<FeatureScenario.Step> steps = new ArrayList<>();
+        for (PickleStep step : pickle.getSteps()) {
+            if (!backgroundSteps.contains(step.getAstNodeIds().get(0))) {
+                steps.add(toStep(step));
+            }
+        }
+        // The first AST node is the scenario or outline; an examples row follows it
+        int line = lines.get(pickle.getAstNodeIds().get(0));
+        return new FeatureScenario(pickle.getName(), Set.copyOf(tags), List.copyOf(steps), file, line);
+    }
+
+    private static FeatureScenario.Step toStep(PickleStep step) {
+        List<List<String>> table = new ArrayList<>();
+        String docString = null;
+        if (step.getArgument().isPresent()) {
+            PickleStepArgument argument = step.getArgument().get();
+            argument.getDataTable().ifPresent(data -> data.getRows().forEach(row -> table.add(
+                    row.getCells().stream().map(PickleTableCell::getValue).collect(Collectors.toList()))));
+            docString = argument.getDocString().map(PickleDocString::getContent).orElse(null);
+        }
+        return new FeatureScenario.Step(step.getText(), table, docString);
+    }
+
+    private static void index(Feature feature, Map<String, Integer> lines, Set<String> backgroundSteps) {
+        for (FeatureChild child : feature.getChildren()) {
+            child.getBackground().ifPresent(background -> index(background, backgroundSteps));
+            child.getScenario().ifPresent(scenario -> index(scenario, lines));
+            child.getRule().ifPresent(rule -> {
+                for (RuleChild ruleChild : rule.getChildren()) {
+                    ruleChild.getBackground().ifPresent(background -> index(background, backgroundSteps));
+                    ruleChild.getScenario().ifPresent(scenario -> index(scenario, lines));
+                }
+            });
+        }
+    }
+
+    private static void index(Background background, Set<String> backgroundSteps) {
+        for (Step step : background.getSteps()) {
+            backgroundSteps.add(step.getId());
+        }
+    }
+
+    private static void index(Scenario scenario, Map<String, Integer> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+    }
+
+    private static String describe(Path featureFile, ParseError error) {
+        String location = error.getSource().getLocation()
+                .map(at -> featureFile + ":" + at.getLine())
+                .orElse(featureFile.toString());
+        return "Invalid Gherkin in " + location + ": " + error.getMessage();
+    }
+}
@@ -0,0 +1,39 @@
+package com.automation.load;
+
+import io.restassured.response.Response;
+
+import java.util.function.Supplier;
+
+/**
+ * A single request issued by the load generator, labelled by HTTP method and endpoint
+ */
+public class LoadOperation {
+    private final String label;
+    private final Supplier<Response> call;
+    private int expectedStatus;
+
+    public LoadOperation(String label, Supplier<Response> call) {
+        this.label = label;
+        this.call = call;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    /**
+     * Executes the call and reports whether the response matched the scenario's expected status.
+     */
+    public boolean execute() {
+        Response response = call.get();
+        return response != null && (expectedStatus == 0 || response.getStatusCode() == expectedStatus);
+    }
+}
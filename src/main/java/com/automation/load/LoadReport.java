@@ -0,0 +1,90 @@
+package com.automation.load;
+
+import com.automation.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint throughput and latency summary of a load run.
+ * Latencies are measured from each request's intended start, so queueing behind slow responses is included.
+ */
+public class LoadReport {
+    private final Map<String, EndpointStats> endpoints = new ConcurrentSkipListMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long durationNanos;
+
+    void record(String label, long latencyNanos, boolean success) {
+        EndpointStats stats = endpoints.computeIfAbsent(label, key -> new EndpointStats());
+        stats.histogram.recordNanos(latencyNanos);
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public Map<String, EndpointStats> getEndpoints() {
+        return endpoints;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getTotalRequests() {
+        return endpoints.values().stream().mapToLong(s -> s.histogram.getCount()).sum();
+    }
+
+    public long getTotalErrors() {
+        return endpoints.values().stream().mapToLong(s -> s.errors.sum()).sum() + getDropped();
+    }
+
+    public double getErrorRatePercent() {
+        long total = getTotalRequests() + getDropped();
+        return total == 0 ? 0 : getTotalErrors() * 100.0 / total;
+    }
+
+    public double getThroughput(String label) {
+        EndpointStats stats = endpoints.get(label);
+        return stats == null || durationNanos == 0 ? 0 : stats.histogram.getCount() / (durationNanos / 1e9);
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-24s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "Max ms"));
+        endpoints.forEach((label, stats) -> {
+            LatencyHistogram h = stats.histogram;
+            table.append(String.format("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    label, h.getCount(), stats.errors.sum(), getThroughput(label), h.getMeanMillis(),
+                    h.getPercentileMillis(50), h.getPercentileMillis(95), h.getPercentileMillis(99),
+                    h.getPercentileMillis(99.9), h.getMaxMillis()));
+        });
+        table.append(String.format("Total: %d requests, %d errors, %d dropped, %.2f%% error rate over %.1f s%n",
+                getTotalRequests(), getTotalErrors(), getDropped(), getErrorRatePercent(), durationNanos / 1e9));
+        return table.toString();
+    }
+
+    /**
+     * Latency histogram and error count for one endpoint
+     */
+    public static class EndpointStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+}
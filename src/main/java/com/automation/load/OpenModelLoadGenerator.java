@@ -0,0 +1,66 @@
+package com.automation.load;
+
+import com.automation.utils.LogManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started on a fixed schedule regardless of how long earlier
+ * requests take, each on its own virtual thread. Latency is taken from the scheduled start time, which
+ * avoids coordinated omission when the target slows down.
+ */
+public class OpenModelLoadGenerator {
+    private final WorkloadMix mix;
+    private final int maxInFlight;
+
+    public OpenModelLoadGenerator(WorkloadMix mix, int maxInFlight) {
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public LoadReport run(double requestsPerSecond, long durationSeconds) {
+        LoadReport report = new LoadReport();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        LogManager.info("Starting open-model load: " + requestsPerSecond + " req/s for " + durationSeconds
+                + " s across " + mix.getOperations().size() + " weighted requests");
+
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    report.recordDropped();
+                    continue;
+                }
+                LoadOperation operation = mix.next();
+                executor.execute(() -> {
+                    boolean success = false;
+                    try {
+                        success = operation.execute();
+                    } catch (RuntimeException e) {
+                        LogManager.debug("Load request {} failed: {}", operation.getLabel(), e.getMessage());
+                    } finally {
+                        report.record(operation.getLabel(), System.nanoTime() - intendedStart, success);
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        report.setDurationNanos(System.nanoTime() - start);
+        LogManager.info("Load run finished\n" + report.toTable());
+        return report;
+    }
+}
@@ -0,0 +1,81 @@
+package com.automation.load;
+
+import com.automation.clients.UserServiceController;
+import com.automation.constants.EndPoints;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps the request steps of ReqresUsers.feature onto {@link UserServiceController} calls.
+ * Status code steps set the expected status of the preceding request; assertion steps are ignored.
+ */
+public class StepOperationMapper {
+    private static final Pattern GET_ENDPOINT = Pattern.compile("I send GET request to \"(.+)\" endpoint");
+    private static final Pattern GET_LIST = Pattern.compile("I send GET request to \"(.+)\"");
+    private static final Pattern CREATE_USER = Pattern.compile("I send a (\\w+) request to CREATE user with the following data:");
+    private static final Pattern INVALID_PAYLOAD = Pattern.compile("I send a POST request with Invalid payload \"(.*)\"");
+    private static final Pattern STATUS_CODE = Pattern.compile("I should receive a response with status code (\\d+)");
+
+    public List<LoadOperation> map(FeatureScenario scenario) {
+        List<LoadOperation> operations = new ArrayList<>();
+        for (FeatureScenario.Step step : scenario.steps()) {
+            String text = step.text();
+            Matcher matcher;
+            if ((matcher = STATUS_CODE.matcher(text)).matches()) {
+                if (!operations.isEmpty()) {
+                    operations.get(operations.size() - 1).setExpectedStatus(Integer.parseInt(matcher.group(1)));
+                }
+            } else if (text.equals("I send GET request to retrieve all users") || GET_LIST.matcher(text).matches()) {
+                operations.add(get(EndPoints.USER_LIST));
+            } else if (text.equals("I send GET request to retrieve user details")) {
+                operations.add(get(EndPoints.SINGLE_USER));
+            } else if ((matcher = GET_ENDPOINT.matcher(text)).matches()) {
+                operations.add(get(matcher.group(1)));
+            } else if ((matcher = CREATE_USER.matcher(text)).matches()) {
+                String method = matcher.group(1).toUpperCase();
+                List<List<String>> table = step.table();
+                if (table.size() <= 1) {
+                    operations.add(createUser(method, Map.of()));
+                }
+                for (int i = 1; i < table.size(); i++) {
+                    operations.add(createUser(method, toRow(table.get(0), table.get(i))));
+                }
+            } else if (text.equals("I send a DELETE request to remove the user")) {
+                operations.add(new LoadOperation("DELETE " + EndPoints.DELETE_USER,
+                        () -> UserServiceController.deleteUser(EndPoints.DELETE_USER)));
+            } else if ((matcher = INVALID_PAYLOAD.matcher(text)).matches()) {
+                String payload = matcher.group(1);
+                operations.add(new LoadOperation("POST " + EndPoints.CREATE_USER, () -> UserServiceController.post(payload)));
+            } else if (text.equals("the request body is:") && step.docString() != null) {
+                String payload = step.docString();
+                operations.add(new LoadOperation("POST " + EndPoints.CREATE_USER,
+                        () -> UserServiceController.post(payload, EndPoints.CREATE_USER)));
+            }
+        }
+        return operations;
+    }
+
+    private static LoadOperation get(String endpoint) {
+        return new LoadOperation("GET " + endpoint, () -> UserServiceController.getUser(endpoint));
+    }
+
+    private static LoadOperation createUser(String method, Map<String, String> row) {
+        String name = row.get("name");
+        String job = row.get("job");
+        String endpoint = method.equals("PUT") ? EndPoints.UPDATE_USER : EndPoints.CREATE_USER;
+        return new LoadOperation(method + " " + endpoint, () -> UserServiceController.createUser(method, name, job));
+    }
+
+    private static Map<String, String> toRow(List<String> header, List<String> values) {
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,76 @@
+package com.automation.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted request mix built from tagged scenarios, e.g. {@code "@Regression:3,@Smoke:1"}.
+ * Every request of a matching scenario gets the scenario's weight, so the mix preserves how often each
+ * request appears in the suite; a scenario carrying several listed tags uses the highest weight.
+ */
+public class WorkloadMix {
+    private final List<LoadOperation> operations = new ArrayList<>();
+    private double[] cumulativeWeights = new double[0];
+    private double totalWeight;
+
+    public static WorkloadMix fromScenarios(List<FeatureScenario> scenarios, String mixDefinition) {
+        Map<String, Double> tagWeights = parseTagWeights(mixDefinition);
+        StepOperationMapper mapper = new StepOperationMapper();
+        WorkloadMix mix = new WorkloadMix();
+        for (FeatureScenario scenario : scenarios) {
+            double weight = scenario.tags().stream()
+                    .filter(tagWeights::containsKey)
+                    .mapToDouble(tagWeights::get)
+                    .max().orElse(0);
+            if (weight > 0) {
+                mapper.map(scenario).forEach(operation -> mix.add(operation, weight));
+            }
+        }
+        if (mix.operations.isEmpty()) {
+            throw new IllegalArgumentException("No scenarios with requests match workload mix: " + mixDefinition);
+        }
+        return mix;
+    }
+
+    static Map<String, Double> parseTagWeights(String mixDefinition) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (String entry : mixDefinition.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (!parts[0].isEmpty()) {
+                weights.put(parts[0].trim(), parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 1.0);
+            }
+        }
+        return weights;
+    }
+
+    public void add(LoadOperation operation, double weight) {
+        operations.add(operation);
+        double[] grown = new double[cumulativeWeights.length + 1];
+        System.arraycopy(cumulativeWeights, 0, grown, 0, cumulativeWeights.length);
+        totalWeight += weight;
+        grown[grown.length - 1] = totalWeight;
+        cumulativeWeights = grown;
+    }
+
+    public LoadOperation next() {
+        double point = ThreadLocalRandom.current().nextDouble(totalWeight);
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] <= point) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return operations.get(low);
+    }
+
+    public List<LoadOperation> getOperations() {
+        return operations;
+    }
+}
@@ -0,0 +1,92 @@
+package com.automation.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This run's p95 and p99 per endpoint against the median of the baseline runs. A percentile regresses only when it
+ * exceeds the median by more than {@code tolerancePercent} and {@code minDeltaMs}, and lies more than
+ * {@code maxZScore} robust standard deviations (1.4826 x MAD) above it, so ordinary run-to-run noise does not fail
+ * the build. Endpoints with fewer than {@code minSamples} calls, or fewer than {@code minRuns} baseline runs, are
+ * shown but not gated.
+ */
+public class BaselineComparison {
+    private static final double MAD_TO_SIGMA = 1.4826;
+
+    private final List<Row> rows = new ArrayList<>();
+
+    public BaselineComparison(PerformanceBaseline baseline, Map<String, PerformanceBaseline.RunSample> current,
+                              double tolerancePercent, double minDeltaMs, double maxZScore, int minSamples, int minRuns) {
+        current.forEach((endpoint, sample) -> {
+            List<PerformanceBaseline.RunSample> runs = baseline.runs(endpoint);
+            boolean gated = sample.count() >= minSamples && runs.size() >= minRuns;
+            compare(endpoint, "p95", sample.p95Ms(), runs, PerformanceBaseline.RunSample::p95Ms, gated,
+                    tolerancePercent, minDeltaMs, maxZScore);
+            compare(endpoint, "p99", sample.p99Ms(), runs, PerformanceBaseline.RunSample::p99Ms, gated,
+                    tolerancePercent, minDeltaMs, maxZScore);
+            compare(endpoint, "req/s", sample.throughputPerSecond(), runs,
+                    PerformanceBaseline.RunSample::throughputPerSecond, false, 0, 0, 0);
+        });
+    }
+
+    private void compare(String endpoint, String metric, double value, List<PerformanceBaseline.RunSample> runs,
+                         ToDoubleFunction<PerformanceBaseline.RunSample> metricOf, boolean gated,
+                         double tolerancePercent, double minDeltaMs, double maxZScore) {
+        if (runs.isEmpty()) {
+            rows.add(new Row(endpoint, metric, Double.NaN, Double.NaN, value, Double.NaN, Status.NEW));
+            return;
+        }
+        List<Double> history = new ArrayList<>(runs.size());
+        runs.forEach(run -> history.add(metricOf.applyAsDouble(run)));
+        double median = PerformanceBaseline.median(history);
+        double sigma = MAD_TO_SIGMA * PerformanceBaseline.medianAbsoluteDeviation(history, median);
+        double limit = Math.max(median * (1 + tolerancePercent / 100), median + minDeltaMs);
+        if (sigma > 0) {
+            limit = Math.max(limit, median + maxZScore * sigma);
+        }
+        Status status = !gated ? Status.NOT_GATED : value > limit ? Status.REGRESSED : Status.OK;
+        rows.add(new Row(endpoint, metric, median, sigma, value, gated ? limit : Double.NaN, status));
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public List<Row> getRegressions() {
+        return rows.stream().filter(row -> row.status() == Status.REGRESSED).toList();
+    }
+
+    public boolean hasRegressions() {
+        return rows.stream().anyMatch(row -> row.status() == Status.REGRESSED);
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%-32s %-6s %10s %9s %10s %9s %10s  %s%n",
+                "Endpoint", "Metric", "Baseline", "Sigma", "Current", "Change", "Limit", "Status"));
+        for (Row row : rows) {
+            table.append(String.format("%-32s %-6s %10s %9s %10.1f %9s %10s  %s%n", row.endpoint(), row.metric(),
+                    format(row.baseline()), format(row.sigma()), row.current(),
+                    Double.isNaN(row.baseline()) || row.baseline() == 0 ? "-"
+                            : String.format("%+.0f%%", (row.current() / row.baseline() - 1) * 100),
+                    format(row.limit()), row.status()));
+        }
+        return table.toString();
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.1f", value);
+    }
+
+    /**
+     * One metric of one endpoint; latencies in ms, throughput in requests per second
+     */
+    public record Row(String endpoint, String metric, double baseline, double sigma, double current, double limit,
+                      Status status) {
+    }
+
+    public enum Status {
+        OK, REGRESSED, NOT_GATED, NEW
+    }
+}
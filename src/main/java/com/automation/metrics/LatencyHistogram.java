@@ -0,0 +1,119 @@
+package com.automation.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram with microsecond resolution.
+ * Values below 2 ms are stored exactly; above that every power of two is split into 1024 buckets (~0.1% error).
+ * Percentiles report the top of their bucket (capped at the max), so they can overstate the exact value by up to
+ * 1/1024 but never understate it: a percentile SLA that passes here also holds for the exact samples.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 10;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+    private static final long MAX_TRACKABLE_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKETS * (MAX_EXPONENT - SUB_BUCKET_BITS + 2);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+
+    public void record(long duration, TimeUnit unit) {
+        recordMicros(unit.toMicros(duration));
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+        minMicros.accumulateAndGet(value, Math::min);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public double getMeanMillis() {
+        long count = getCount();
+        return count == 0 ? 0 : totalMicros.sum() / (double) count / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return getCount() == 0 ? 0 : maxMicros.get() / 1000.0;
+    }
+
+    public double getMinMillis() {
+        return getCount() == 0 ? 0 : minMicros.get() / 1000.0;
+    }
+
+    /**
+     * Returns the value at the given percentile (0-100) in milliseconds.
+     */
+    public double getPercentileMillis(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Adds every sample of {@code other} into this histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount > 0) {
+                counts.addAndGet(i, bucketCount);
+            }
+        }
+        totalCount.add(other.totalCount.sum());
+        totalMicros.add(other.totalMicros.sum());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+        minMicros.accumulateAndGet(other.minMicros.get(), Math::min);
+    }
+
+    static int indexOf(long micros) {
+        if (micros < 2L * SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(micros)) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) ((micros >>> shift) - SUB_BUCKETS);
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return ((long) (index % SUB_BUCKETS + SUB_BUCKETS)) << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return lowestEquivalentValue(index) + (1L << shift) - 1;
+    }
+}
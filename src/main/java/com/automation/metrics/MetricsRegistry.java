@@ -0,0 +1,118 @@
+package com.automation.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Per-endpoint latency histograms for every HTTP call, keyed by {@code "METHOD path"}.
+ * A thread can additionally capture its own calls into a private histogram, e.g. for an SLA step.
+ */
+public class MetricsRegistry {
+    public static final double[] REPORTED_PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final ThreadLocal<LatencyHistogram> CAPTURE = new ThreadLocal<>();
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private MetricsRegistry() {
+    }
+
+    public static void record(String method, String path, long nanos) {
+        HISTOGRAMS.computeIfAbsent(key(method, path), key -> new LatencyHistogram()).recordNanos(nanos);
+        LatencyHistogram capture = CAPTURE.get();
+        if (capture != null) {
+            capture.recordNanos(nanos);
+        }
+    }
+
+    public static LatencyHistogram histogram(String method, String path) {
+        return HISTOGRAMS.get(key(method, path));
+    }
+
+    public static Map<String, LatencyHistogram> getHistograms() {
+        return HISTOGRAMS;
+    }
+
+    /**
+     * Starts recording this thread's calls into a fresh histogram until {@link #stopCapture()}.
+     */
+    public static LatencyHistogram startCapture() {
+        LatencyHistogram capture = new LatencyHistogram();
+        CAPTURE.set(capture);
+        return capture;
+    }
+
+    public static void stopCapture() {
+        CAPTURE.remove();
+    }
+
+    public static String key(String method, String path) {
+        String normalized = path == null ? "" : path;
+        int query = normalized.indexOf('?');
+        if (query >= 0) {
+            normalized = normalized.substring(0, query);
+        }
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return method.toUpperCase() + " " + normalized;
+    }
+
+    public static String summaryTable() {
+        return summaryTable(HISTOGRAMS);
+    }
+
+    public static String summaryTable(Map<String, LatencyHistogram> histograms) {
+        StringBuilder table = new StringBuilder(String.format("%-40s %8s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Mean ms", "p50", "p95", "p99", "p99.9", "Max ms"));
+        histograms.forEach((endpoint, histogram) -> table.append(String.format(
+                "%-40s %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, histogram.getCount(), histogram.getMeanMillis(),
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                histogram.getPercentileMillis(99), histogram.getPercentileMillis(99.9), histogram.getMaxMillis())));
+        return table.toString();
+    }
+
+    public static String toJson() {
+        ObjectNode root = MAPPER.createObjectNode();
+        HISTOGRAMS.forEach((endpoint, histogram) -> {
+            ObjectNode node = root.putObject(endpoint);
+            node.put("count", histogram.getCount());
+            node.put("minMs", histogram.getMinMillis());
+            node.put("meanMs", histogram.getMeanMillis());
+            node.put("maxMs", histogram.getMaxMillis());
+            ObjectNode percentiles = node.putObject("percentilesMs");
+            for (double percentile : REPORTED_PERCENTILES) {
+                percentiles.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile)
+                        : String.valueOf(percentile)), histogram.getPercentileMillis(percentile));
+            }
+        });
+        try {
+            return MAPPER.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new RuntimeException("Error serializing latency histograms: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes {@link #toJson()} to the given file, creating parent directories as needed.
+     */
+    public static Path export(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, toJson());
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException("Error exporting latency histograms to " + file + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.automation.metrics;
+
+import com.automation.utils.LogManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-endpoint latency percentiles and throughput of the last {@code window} passing runs, stored as JSON
+ * (one file per environment). A run is compared against the median of these runs before it is added to them.
+ */
+public class PerformanceBaseline {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<Map<String, List<RunSample>>> RUNS = new TypeReference<>() {
+    };
+
+    private final Map<String, List<RunSample>> endpoints;
+
+    private PerformanceBaseline(Map<String, List<RunSample>> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * The stored baseline, or an empty one when the file does not exist or cannot be read.
+     */
+    public static PerformanceBaseline load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new PerformanceBaseline(new TreeMap<>());
+        }
+        try {
+            return new PerformanceBaseline(new TreeMap<>(MAPPER.readValue(file.toFile(), RUNS)));
+        } catch (IOException e) {
+            LogManager.warn("Ignoring unreadable performance baseline {}: {}", file, e.getMessage());
+            return new PerformanceBaseline(new TreeMap<>());
+        }
+    }
+
+    public static Map<String, RunSample> samplesOf(Map<String, LatencyHistogram> histograms, double runSeconds) {
+        Map<String, RunSample> samples = new TreeMap<>();
+        long now = System.currentTimeMillis();
+        histograms.forEach((endpoint, histogram) -> samples.put(endpoint, new RunSample(histogram.getCount(),
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(95), histogram.getPercentileMillis(99),
+                runSeconds > 0 ? histogram.getCount() / runSeconds : 0, now)));
+        return samples;
+    }
+
+    public List<RunSample> runs(String endpoint) {
+        return Collections.unmodifiableList(endpoints.getOrDefault(endpoint, List.of()));
+    }
+
+    /**
+     * Appends this run's samples, keeping only the latest {@code window} runs per endpoint.
+     */
+    public void add(Map<String, RunSample> samples, int window) {
+        samples.forEach((endpoint, sample) -> {
+            List<RunSample> runs = endpoints.computeIfAbsent(endpoint, key -> new ArrayList<>());
+            runs.add(sample);
+            if (runs.size() > window) {
+                runs.subList(0, runs.size() - window).clear();
+            }
+        });
+    }
+
+    public void save(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            MAPPER.writeValue(temp.toFile(), endpoints);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing performance baseline to " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    static double median(List<Double> values) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    /**
+     * Median absolute deviation from the median: a spread estimate that one outlier run cannot inflate.
+     */
+    static double medianAbsoluteDeviation(List<Double> values, double median) {
+        List<Double> deviations = new ArrayList<>(values.size());
+        values.forEach(value -> deviations.add(Math.abs(value - median)));
+        return median(deviations);
+    }
+
+    /**
+     * One endpoint's numbers from one run
+     */
+    public record RunSample(long count, double p50Ms, double p95Ms, double p99Ms, double throughputPerSecond,
+                            long recordedAt) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.automation.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Milestones of the run's startup, in milliseconds since JVM start: config loaded, API client built, first
+ * scenario, and the time to the first request and its response. Each milestone keeps its first occurrence.
+ */
+public class StartupTimer {
+    public static final String CONFIG_LOADED = "config loaded";
+    public static final String API_CLIENT_READY = "api client ready";
+    public static final String FIRST_SCENARIO = "first scenario";
+    public static final String FIRST_REQUEST = "first request";
+    public static final String FIRST_RESPONSE = "first response";
+
+    /** From the OS process table, which avoids loading the JMX runtime bean this early */
+    private static final long JVM_START_MILLIS = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli).orElseGet(System::currentTimeMillis);
+    private static final Map<String, Long> MILESTONES = new LinkedHashMap<>();
+    private static volatile boolean firstResponseSeen;
+
+    private StartupTimer() {
+    }
+
+    public static synchronized void mark(String milestone) {
+        MILESTONES.putIfAbsent(milestone, System.currentTimeMillis() - JVM_START_MILLIS);
+    }
+
+    /**
+     * Called around every request; after the first response it costs a single volatile read.
+     */
+    public static void requestSent() {
+        if (!firstResponseSeen) {
+            mark(FIRST_REQUEST);
+        }
+    }
+
+    public static void responseReceived() {
+        if (!firstResponseSeen) {
+            mark(FIRST_RESPONSE);
+            firstResponseSeen = true;
+        }
+    }
+
+    /**
+     * Milliseconds from the first request until now, or 0 before any request was sent.
+     */
+    public static synchronized long millisSinceFirstRequest() {
+        Long firstRequest = MILESTONES.get(FIRST_REQUEST);
+        return firstRequest == null ? 0 : System.currentTimeMillis() - JVM_START_MILLIS - firstRequest;
+    }
+
+    public static synchronized Long timeToFirstRequestMillis() {
+        return MILESTONES.get(FIRST_REQUEST);
+    }
+
+    public static synchronized Map<String, Long> getMilestones() {
+        return new LinkedHashMap<>(MILESTONES);
+    }
+
+    public static String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-20s %10s%n", "Milestone", "ms"));
+        getMilestones().forEach((milestone, millis) -> summary.append(String.format("%-20s %10d%n", milestone, millis)));
+        return summary.toString();
+    }
+
+    public static Path export(Path file) {
+        StringBuilder json = new StringBuilder("{");
+        getMilestones().forEach((milestone, millis) ->
+                json.append(json.length() > 1 ? "," : "").append('"').append(milestone).append("\":").append(millis));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, json.append('}').toString());
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException("Error exporting startup timings to " + file + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.automation.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Request body for sign-up and login
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuthRequest {
+
+    @JsonProperty("email")
+    private String email;
+
+    @JsonProperty("password")
+    private String password;
+
+    // Default constructor
+    public AuthRequest() {}
+
+    // Constructor with parameters
+    public AuthRequest(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+
+    // Getters and Setters
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthRequest{" +
+                "email='" + email + '\'' +
+                ", password='****'" +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package com.automation.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Request body for creating or updating a user
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserRequest {
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("job")
+    private String job;
+
+    // Default constructor
+    public UserRequest() {}
+
+    // Constructor with parameters
+    public UserRequest(String name, String job) {
+        this.name = name;
+        this.job = job;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getJob() {
+        return job;
+    }
+
+    public void setJob(String job) {
+        this.job = job;
+    }
+
+    @Override
+    public String toString() {
+        return "UserRequest{" +
+                "name='" + name + '\'' +
+                ", job='" + job + '\'' +
+                '}';
+    }
+}
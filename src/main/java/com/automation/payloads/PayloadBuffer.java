@@ -0,0 +1,51 @@
+package com.automation.payloads;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable per-thread byte buffer reused across payloads. Only the final, exactly sized copy handed to the
+ * HTTP client is allocated per request.
+ */
+class PayloadBuffer extends OutputStream {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<PayloadBuffer> BUFFERS = ThreadLocal.withInitial(PayloadBuffer::new);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    static PayloadBuffer acquire() {
+        PayloadBuffer buffer = BUFFERS.get();
+        buffer.length = 0;
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(length + 1);
+        bytes[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] source, int offset, int count) {
+        ensureCapacity(length + count);
+        System.arraycopy(source, offset, bytes, length, count);
+        length += count;
+    }
+
+    byte[] toByteArray() {
+        byte[] result = Arrays.copyOf(bytes, length);
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            // Do not pin an oversized buffer to the thread after a one-off large payload
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length << 1));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.automation.payloads;
+
+import com.automation.models.AuthRequest;
+import com.automation.models.Post;
+import com.automation.models.UserRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+/**
+ * Serializes request models with one pre-built {@link ObjectWriter} per type, so serializers are resolved once
+ * rather than on every call. Output is written into the calling thread's reusable {@link PayloadBuffer}.
+ */
+public class PayloadSerializer {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ClassValue<ObjectWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return MAPPER.writerFor(type);
+        }
+    };
+
+    static {
+        // Resolve the serializers of the known request models up front
+        WRITERS.get(Post.class);
+        WRITERS.get(UserRequest.class);
+        WRITERS.get(AuthRequest.class);
+    }
+
+    private PayloadSerializer() {
+    }
+
+    public static byte[] toBytes(Object payload) {
+        PayloadBuffer buffer = PayloadBuffer.acquire();
+        try {
+            WRITERS.get(payload.getClass()).writeValue(buffer, payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to serialize " + payload.getClass().getSimpleName() + ": " + e.getMessage(), e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,149 @@
+package com.automation.payloads;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON body template such as {@code {"name":${name},"job":${job}}}, parsed once into literal byte chunks and
+ * slots. Rendering writes the chunks and the escaped slot values straight into the thread's reusable buffer:
+ * strings are quoted and escaped, numbers and booleans are written as-is and {@code null} becomes {@code null}.
+ * A null value is sent as JSON {@code null}, not as the string {@code "null"} that the concatenated bodies used
+ * to send. NaN and infinite numbers have no JSON form and are rejected.
+ */
+public class PayloadTemplate {
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final String source;
+    private final byte[][] literals;
+    private final String[] slots;
+
+    private PayloadTemplate(String source, byte[][] literals, String[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    public static PayloadTemplate compile(String template) {
+        List<byte[]> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = template.indexOf("${", position)) >= 0) {
+            int end = template.indexOf('}', start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed slot in payload template: " + template);
+            }
+            literals.add(template.substring(position, start).getBytes(StandardCharsets.UTF_8));
+            slots.add(template.substring(start + 2, end).trim());
+            position = end + 1;
+        }
+        literals.add(template.substring(position).getBytes(StandardCharsets.UTF_8));
+        return new PayloadTemplate(template, literals.toArray(new byte[0][]), slots.toArray(new String[0]));
+    }
+
+    public List<String> getSlots() {
+        return List.of(slots);
+    }
+
+    /**
+     * Renders the template with one value per slot, in the order the slots appear.
+     */
+    public byte[] render(Object... values) {
+        if (values.length != slots.length) {
+            throw new IllegalArgumentException("Template " + source + " expects " + slots.length
+                    + " values but got " + values.length);
+        }
+        PayloadBuffer buffer = PayloadBuffer.acquire();
+        for (int i = 0; i < slots.length; i++) {
+            buffer.write(literals[i], 0, literals[i].length);
+            writeValue(buffer, slots[i], values[i]);
+        }
+        byte[] tail = literals[slots.length];
+        buffer.write(tail, 0, tail.length);
+        return buffer.toByteArray();
+    }
+
+    public String renderToString(Object... values) {
+        return new String(render(values), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private void writeValue(PayloadBuffer buffer, String slot, Object value) {
+        if (value == null) {
+            buffer.write(NULL, 0, NULL.length);
+        } else if (value instanceof Double doubleValue && !Double.isFinite(doubleValue)
+                || value instanceof Float floatValue && !Float.isFinite(floatValue)) {
+            throw new IllegalArgumentException("Slot ${" + slot + "} of template " + source
+                    + " cannot be rendered as JSON: " + value);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            writeAscii(buffer, value.toString());
+        } else {
+            writeString(buffer, value.toString());
+        }
+    }
+
+    private static void writeAscii(PayloadBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            buffer.write(value.charAt(i));
+        }
+    }
+
+    private static void writeString(PayloadBuffer buffer, String value) {
+        buffer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.write('\\');
+                buffer.write(c);
+            } else if (c < 0x20) {
+                writeControl(buffer, c);
+            } else if (c < 0x80) {
+                buffer.write(c);
+            } else if (c < 0x800) {
+                buffer.write(0xC0 | (c >> 6));
+                buffer.write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.write(0xF0 | (codePoint >> 18));
+                buffer.write(0x80 | ((codePoint >> 12) & 0x3F));
+                buffer.write(0x80 | ((codePoint >> 6) & 0x3F));
+                buffer.write(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Lone surrogate: emit an escape rather than malformed UTF-8
+                writeUnicodeEscape(buffer, c);
+            } else {
+                buffer.write(0xE0 | (c >> 12));
+                buffer.write(0x80 | ((c >> 6) & 0x3F));
+                buffer.write(0x80 | (c & 0x3F));
+            }
+        }
+        buffer.write('"');
+    }
+
+    private static void writeControl(PayloadBuffer buffer, char c) {
+        switch (c) {
+            case '\n' -> { buffer.write('\\'); buffer.write('n'); }
+            case '\r' -> { buffer.write('\\'); buffer.write('r'); }
+            case '\t' -> { buffer.write('\\'); buffer.write('t'); }
+            case '\b' -> { buffer.write('\\'); buffer.write('b'); }
+            case '\f' -> { buffer.write('\\'); buffer.write('f'); }
+            default -> writeUnicodeEscape(buffer, c);
+        }
+    }
+
+    private static void writeUnicodeEscape(PayloadBuffer buffer, char c) {
+        buffer.write('\\');
+        buffer.write('u');
+        buffer.write(HEX[(c >> 12) & 0xF]);
+        buffer.write(HEX[(c >> 8) & 0xF]);
+        buffer.write(HEX[(c >> 4) & 0xF]);
+        buffer.write(HEX[c & 0xF]);
+    }
+}
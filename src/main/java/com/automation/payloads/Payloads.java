@@ -0,0 +1,20 @@
+package com.automation.payloads;
+
+/**
+ * Pre-compiled request bodies used by the service controllers.
+ */
+public class Payloads {
+    public static final PayloadTemplate USER = PayloadTemplate.compile("{\"name\":${name},\"job\":${job}}");
+    public static final PayloadTemplate AUTH = PayloadTemplate.compile("{\"email\":${email},\"password\":${password}}");
+
+    private Payloads() {
+    }
+
+    public static byte[] user(String name, String job) {
+        return USER.render(name, job);
+    }
+
+    public static byte[] auth(String email, String password) {
+        return AUTH.render(email, password);
+    }
+}
@@ -0,0 +1,84 @@
+package com.automation.profiling;
+
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+
+import java.util.function.Supplier;
+
+/**
+ * Connect and time-to-first-byte of the exchange running on the current thread, filled in by the HTTP client's
+ * connection operator and interceptors while {@link JfrExchangeFilter} has an exchange open. Outside of one every
+ * hook returns after a single ThreadLocal read.
+ */
+public class ExchangeTimings {
+    private static final ThreadLocal<ExchangeTimings> CURRENT = new ThreadLocal<>();
+
+    long connectNanos;
+    boolean newConnection;
+    long requestSentAt;
+    long firstByteAt;
+
+    static ExchangeTimings begin() {
+        ExchangeTimings timings = new ExchangeTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Carries the calling thread's open exchange over to {@code task}, for filters that send on another thread.
+     */
+    public static <T> Supplier<T> bind(Supplier<T> task) {
+        ExchangeTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(timings);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    static void connected(long nanos) {
+        ExchangeTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.connectNanos += nanos;
+            timings.newConnection = true;
+        }
+    }
+
+    /**
+     * Runs once the connection is open, right before the request is written.
+     */
+    public static HttpRequestInterceptor requestInterceptor() {
+        return (request, context) -> {
+            ExchangeTimings timings = CURRENT.get();
+            if (timings != null) {
+                timings.requestSentAt = System.nanoTime();
+            }
+        };
+    }
+
+    /**
+     * Runs once the status line and headers have been read, before the body.
+     */
+    public static HttpResponseInterceptor responseInterceptor() {
+        return (response, context) -> {
+            ExchangeTimings timings = CURRENT.get();
+            if (timings != null) {
+                timings.firstByteAt = System.nanoTime();
+            }
+        };
+    }
+
+    long timeToFirstByteNanos() {
+        return requestSentAt > 0 && firstByteAt >= requestSentAt ? firstByteAt - requestSentAt : 0;
+    }
+}
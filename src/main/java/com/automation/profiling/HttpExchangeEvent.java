@@ -0,0 +1,51 @@
+package com.automation.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One request through the RestAssured filter chain. The event duration is the total time including every filter;
+ * connect and time-to-first-byte come from the HTTP client, so the remainder is filters, pool wait and body transfer.
+ */
+@Name(HttpExchangeEvent.NAME)
+@Label("HTTP Exchange")
+@Category({"API Automation", "HTTP"})
+@Description("Request sent through the ApiClient filter chain")
+@StackTrace(false)
+public class HttpExchangeEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.automation.HttpExchange";
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("New Connection")
+    boolean newConnection;
+
+    @Label("Connect Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long connectTime;
+
+    @Label("Time To First Byte")
+    @Description("From the request being written to the response headers being read")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeToFirstByte;
+}
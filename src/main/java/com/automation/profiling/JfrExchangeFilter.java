@@ -0,0 +1,56 @@
+package com.automation.profiling;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Emits an {@link HttpExchangeEvent} per request. Registered first, so the event spans the whole filter chain.
+ * When the event is not enabled in any recording, the request passes straight through.
+ */
+public class JfrExchangeFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        ExchangeTimings timings = ExchangeTimings.begin();
+        event.begin();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            event.status = response.getStatusCode();
+            event.responseBytes = response.asByteArray().length;
+            return response;
+        } finally {
+            event.end();
+            ExchangeTimings.end();
+            if (event.shouldCommit()) {
+                event.method = requestSpec.getMethod();
+                event.endpoint = requestSpec.getUserDefinedPath();
+                event.requestBytes = requestBytes(requestSpec.getBody());
+                event.newConnection = timings.newConnection;
+                event.connectTime = timings.connectNanos;
+                event.timeToFirstByte = timings.timeToFirstByteNanos();
+                event.commit();
+            }
+        }
+    }
+
+    private static long requestBytes(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
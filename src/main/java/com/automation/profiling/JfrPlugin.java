@@ -0,0 +1,68 @@
+package com.automation.profiling;
+
+import com.automation.config.ConfigManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that starts the flight recording for the run when {@code jfr.enabled=true} and emits a
+ * {@link StepEvent} per step and hook. With recording off it registers no handlers at all.
+ */
+public class JfrPlugin implements ConcurrentEventListener {
+    private final Map<UUID, StepEvent> running = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.isJfrEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, event -> JfrRecorder.start(config));
+        publisher.registerHandlerFor(TestStepStarted.class, this::onStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> JfrRecorder.stop());
+    }
+
+    private void onStepStarted(TestStepStarted event) {
+        StepEvent step = new StepEvent();
+        if (step.isEnabled()) {
+            step.begin();
+            running.put(event.getTestCase().getId(), step);
+        }
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        StepEvent step = running.remove(event.getTestCase().getId());
+        if (step == null) {
+            return;
+        }
+        step.end();
+        if (step.shouldCommit()) {
+            step.step = describe(event.getTestStep());
+            step.scenario = event.getTestCase().getName();
+            step.status = event.getResult().getStatus().name();
+            step.commit();
+        }
+    }
+
+    private static String describe(TestStep testStep) {
+        if (testStep instanceof PickleStepTestStep pickleStep) {
+            return pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+        }
+        if (testStep instanceof HookTestStep hook) {
+            return hook.getHookType() + " hook " + hook.getCodeLocation();
+        }
+        return testStep.getCodeLocation();
+    }
+}
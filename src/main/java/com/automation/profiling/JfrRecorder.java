@@ -0,0 +1,118 @@
+package com.automation.profiling;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.LogManager;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Flight recording of a test run ({@code jfr.enabled=true}): the JVM's built-in events under {@code jfr.settings}
+ * plus the HTTP exchange and step events, dumped to {@code jfr.output} when the run ends. With
+ * {@code jfr.summary.interval.seconds} > 0 an event stream also logs a rolling per-endpoint and per-step summary.
+ */
+public class JfrRecorder {
+    private static Recording recording;
+    private static RecordingStream stream;
+
+    private JfrRecorder() {
+    }
+
+    public static synchronized void start(ConfigManager config) {
+        if (recording != null) {
+            return;
+        }
+        Path output = Paths.get(config.getJfrOutput());
+        try {
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            recording = new Recording(Configuration.getConfiguration(config.getJfrSettings()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Unable to start flight recording: " + e.getMessage(), e);
+        }
+        recording.setName("api-automation");
+        recording.enable(HttpExchangeEvent.class);
+        recording.enable(StepEvent.class);
+        recording.setToDisk(true);
+        try {
+            recording.setDestination(output);
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid flight recording destination " + output + ": " + e.getMessage(), e);
+        }
+        recording.setDumpOnExit(true);
+        recording.start();
+        LogManager.info("Flight recording started ({} settings), writing to {}", config.getJfrSettings(), output);
+
+        int interval = config.getJfrSummaryIntervalSeconds();
+        if (interval > 0) {
+            startSummaryStream(Duration.ofSeconds(interval));
+        }
+    }
+
+    public static synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+        if (recording != null) {
+            Path destination = recording.getDestination();
+            recording.stop();
+            recording.close();
+            recording = null;
+            LogManager.info("Flight recording written to {} (open with JDK Mission Control or 'jfr print')", destination);
+        }
+    }
+
+    private static void startSummaryStream(Duration interval) {
+        RollingSummary summary = new RollingSummary();
+        stream = new RecordingStream();
+        stream.enable(HttpExchangeEvent.NAME);
+        stream.enable(StepEvent.NAME);
+        stream.onEvent(HttpExchangeEvent.NAME, event -> summary.add("HTTP " + event.getString("method") + " "
+                + event.getString("endpoint"), event));
+        stream.onEvent(StepEvent.NAME, event -> summary.add("Step " + event.getString("step"), event));
+        stream.onFlush(() -> summary.logIfDue(interval));
+        stream.startAsync();
+    }
+
+    /**
+     * Count and total/max duration per key since the last summary, logged at most once per interval.
+     */
+    private static class RollingSummary {
+        private final Map<String, long[]> window = new TreeMap<>();
+        private long lastLogged = System.nanoTime();
+
+        void add(String key, RecordedEvent event) {
+            long nanos = event.getDuration().toNanos();
+            long[] stats = window.computeIfAbsent(key, k -> new long[3]);
+            stats[0]++;
+            stats[1] += nanos;
+            stats[2] = Math.max(stats[2], nanos);
+        }
+
+        void logIfDue(Duration interval) {
+            if (System.nanoTime() - lastLogged < interval.toNanos() || window.isEmpty()) {
+                return;
+            }
+            StringBuilder table = new StringBuilder(String.format("%-60s %8s %10s %10s%n", "Last " + interval.toSeconds() + "s",
+                    "Count", "Mean ms", "Max ms"));
+            window.forEach((key, stats) -> table.append(String.format("%-60s %8d %10.1f %10.1f%n",
+                    key.length() > 60 ? key.substring(0, 57) + "..." : key, stats[0],
+                    stats[1] / (double) stats[0] / 1_000_000.0, stats[2] / 1_000_000.0)));
+            LogManager.info("Flight recorder summary:\n{}", table);
+            window.clear();
+            lastLogged = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.automation.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One Cucumber step or hook; the event duration is the step's run time.
+ */
+@Name(StepEvent.NAME)
+@Label("Cucumber Step")
+@Category({"API Automation", "Cucumber"})
+@Description("Step or hook executed by Cucumber")
+@StackTrace(false)
+public class StepEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.automation.Step";
+
+    @Label("Step")
+    String step;
+
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Status")
+    String status;
+}
@@ -0,0 +1,34 @@
+package com.automation.profiling;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+
+/**
+ * Connection operator that reports how long opening a connection took (DNS, TCP and TLS handshake)
+ * to the exchange being timed on the current thread.
+ */
+@SuppressWarnings("deprecation")
+public class TimedConnectionOperator extends DefaultClientConnectionOperator {
+
+    public TimedConnectionOperator(SchemeRegistry schemes) {
+        super(schemes);
+    }
+
+    @Override
+    public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                               HttpContext context, HttpParams params) throws IOException {
+        long started = System.nanoTime();
+        try {
+            super.openConnection(conn, target, local, context, params);
+        } finally {
+            ExchangeTimings.connected(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.automation.reporting;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which HTTP exchanges get report attachments and how much of each body is kept.
+ * Failed exchanges (status 400 and above, or no response) are always attached; others are sampled.
+ */
+public class AttachmentPolicy {
+    private final int maxBodyChars;
+    private final double sampleRate;
+
+    public AttachmentPolicy(int maxBodyChars, double sampleRate) {
+        this.maxBodyChars = maxBodyChars;
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean shouldAttach(int statusCode) {
+        if (statusCode >= 400 || statusCode <= 0 || sampleRate >= 1.0) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public String truncate(String body) {
+        if (body == null || body.length() <= maxBodyChars) {
+            return body;
+        }
+        return body.substring(0, maxBodyChars) + "\n... [truncated " + (body.length() - maxBodyChars) + " chars]";
+    }
+}
@@ -0,0 +1,90 @@
+package com.automation.reporting;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.LogManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single background writer for report output (attachment rendering, file writes, incremental flushes), so
+ * test threads only enqueue. When the queue is full the task runs on the caller instead of being dropped.
+ */
+public class ReportingQueue {
+    private final BlockingQueue<Runnable> tasks;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong ranOnCaller = new AtomicLong();
+
+    private ReportingQueue(int capacity) {
+        tasks = new ArrayBlockingQueue<>(capacity);
+        Thread writer = new Thread(this::drainLoop, "report-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitDrained(TimeUnit.SECONDS.toMillis(30)), "report-writer-drain"));
+    }
+
+    private static class Holder {
+        private static final ReportingQueue INSTANCE = new ReportingQueue(ConfigManager.getInstance().getReportQueueSize());
+    }
+
+    public static ReportingQueue getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public void submit(Runnable task) {
+        submitted.incrementAndGet();
+        if (!tasks.offer(task)) {
+            ranOnCaller.incrementAndGet();
+            run(task);
+        }
+    }
+
+    /**
+     * Blocks until every task submitted so far has run, or the timeout expires. Returns true when drained.
+     */
+    public boolean awaitDrained(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (completed.get() < submitted.get()) {
+            if (System.currentTimeMillis() >= deadline) {
+                LogManager.warn("Report writer still has {} pending tasks after {} ms",
+                        submitted.get() - completed.get(), timeoutMillis);
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String stats() {
+        return String.format("submitted=%d, completed=%d, ranOnCaller=%d, pending=%d",
+                submitted.get(), completed.get(), ranOnCaller.get(), tasks.size());
+    }
+
+    private void drainLoop() {
+        while (true) {
+            try {
+                run(tasks.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LogManager.error("Report task failed: {}", e.toString());
+        } finally {
+            completed.incrementAndGet();
+        }
+    }
+}
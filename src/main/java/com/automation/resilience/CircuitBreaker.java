@@ -0,0 +1,74 @@
+package com.automation.resilience;
+
+import com.automation.utils.LogManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-host breaker counting consecutive connection failures (any HTTP response, whatever its status, counts as
+ * the host being reachable). At {@code failureThreshold} it opens and calls fail immediately; after
+ * {@code openMillis} a single probe is let through (half-open) and its outcome closes or re-opens the circuit.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+    private volatile Throwable lastFailure;
+
+    public CircuitBreaker(String host, int failureThreshold, long openMillis) {
+        this.host = host;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    /**
+     * Throws {@link CircuitOpenException} unless the call may go ahead.
+     */
+    public void acquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            LogManager.info("Circuit for {} is half-open; probing", host);
+            return;
+        }
+        long retryInMs = Math.max(0, TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - openedAt)));
+        throw new CircuitOpenException(String.format("Circuit for %s is %s after %d consecutive connection failures; "
+                + "failing fast (next probe in %d ms). Last failure: %s", host, state.get(), consecutiveFailures.get(),
+                retryInMs, lastFailure), lastFailure);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            LogManager.info("Circuit for {} closed; host is reachable again", host);
+        }
+    }
+
+    public void onConnectionFailure(Throwable failure) {
+        lastFailure = failure;
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if ((current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold))
+                && state.compareAndSet(current, State.OPEN)) {
+            openedAt = System.nanoTime();
+            LogManager.error("Circuit for {} opened after {} consecutive connection failures: {}", host, failures, failure.toString());
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
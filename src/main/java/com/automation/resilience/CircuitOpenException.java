@@ -0,0 +1,11 @@
+package com.automation.resilience;
+
+/**
+ * Thrown instead of sending a request while the target host's circuit is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String message, Throwable lastFailure) {
+        super(message, lastFailure);
+    }
+}
@@ -0,0 +1,82 @@
+package com.automation.resilience;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.protocol.HttpCoreContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock deadline of the scenario running on the current thread, started and cleared by the hooks.
+ */
+public class Deadline {
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private Deadline() {
+    }
+
+    public static void start(long budgetMillis) {
+        if (budgetMillis > 0) {
+            CURRENT.set(new long[]{System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis), budgetMillis});
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isSet() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Milliseconds left, or {@link Long#MAX_VALUE} when no deadline is set.
+     */
+    public static long remainingMillis() {
+        long[] deadline = CURRENT.get();
+        return deadline == null ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(deadline[0] - System.nanoTime());
+    }
+
+    /**
+     * Carries the calling thread's deadline over to {@code task}, for filters that send on another thread.
+     */
+    public static <T> Supplier<T> bind(Supplier<T> task) {
+        long[] deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(deadline);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public static long budgetMillis() {
+        long[] deadline = CURRENT.get();
+        return deadline == null ? 0 : deadline[1];
+    }
+
+    /**
+     * Caps the read timeout of the connection about to be used at the time left, so a single attempt cannot
+     * outlive the deadline. Runs on the thread sending the request, once the connection is open.
+     */
+    public static HttpRequestInterceptor requestInterceptor() {
+        return (request, context) -> {
+            long remaining = remainingMillis();
+            if (remaining == Long.MAX_VALUE
+                    || !(context.getAttribute(HttpCoreContext.HTTP_CONNECTION) instanceof HttpConnection connection)) {
+                return;
+            }
+            int timeout = connection.getSocketTimeout();
+            int capped = (int) Math.max(1, Math.min(remaining, Integer.MAX_VALUE));
+            if (timeout <= 0 || capped < timeout) {
+                connection.setSocketTimeout(capped);
+            }
+        };
+    }
+}
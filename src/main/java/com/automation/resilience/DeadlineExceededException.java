@@ -0,0 +1,11 @@
+package com.automation.resilience;
+
+/**
+ * Thrown instead of sending a request once the scenario has used up its {@code scenario.deadline.ms}.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,129 @@
+package com.automation.resilience;
+
+import com.automation.clients.AsyncApiClient;
+import com.automation.metrics.LatencyHistogram;
+import com.automation.metrics.MetricsRegistry;
+import com.automation.profiling.ExchangeTimings;
+import com.automation.utils.LogManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Hedged GETs: when the call has not answered within the endpoint's observed latency percentile, a duplicate
+ * is sent and whichever response arrives first wins. The duplicate goes out on the JDK HTTP client because a
+ * RestAssured filter context cannot be driven twice concurrently. Every GET refills the hedge {@link RetryBudget}
+ * and every hedge draws from it; endpoints with fewer than {@code minSamples} recorded calls are never hedged.
+ * The primary call runs on a virtual thread with the caller's {@link Deadline} and {@link ExchangeTimings}; the
+ * duplicate carries neither, so it is bounded by the request timeout and not timed in flight recordings.
+ * A winning duplicate's response time is measured from the start of the call, hedge delay included, as the
+ * caller waited that long; it is read through {@link com.automation.filters.ResponseTimes}.
+ */
+public class HedgingFilter implements Filter {
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("host", "content-length", "connection", "expect", "upgrade");
+
+    private final double percentile;
+    private final long minSamples;
+    private final RetryBudget budget;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public HedgingFilter(double percentile, long minSamples, RetryBudget budget, int connectTimeoutMs, int requestTimeoutMs) {
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.budget = budget;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        budget.recordRequest();
+        LatencyHistogram histogram = MetricsRegistry.histogram("GET", requestSpec.getUserDefinedPath());
+        if (histogram == null || histogram.getCount() < minSamples) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long hedgeDelayMicros = Math.max(1, Math.round(histogram.getPercentileMillis(percentile) * 1000));
+        long started = System.nanoTime();
+
+        CompletableFuture<Response> primary = CompletableFuture.supplyAsync(
+                Deadline.bind(ExchangeTimings.bind(() -> ctx.next(requestSpec, responseSpec))), executor);
+        try {
+            return primary.get(hedgeDelayMicros, TimeUnit.MICROSECONDS);
+        } catch (TimeoutException e) {
+            if (!budget.tryAcquire()) {
+                return join(primary);
+            }
+            LogManager.debug("Hedging GET {} after {} us", requestSpec.getURI(), hedgeDelayMicros);
+            CompletableFuture<Response> hedge = sendDuplicate(requestSpec, started);
+            // A failed hedge must not win the race, so it only completes on success
+            CompletableFuture<Response> hedgeSuccess = hedge.handle((response, error) -> response)
+                    .thenCompose(response -> response != null ? CompletableFuture.completedFuture(response) : primary);
+            return join(primary.applyToEither(hedgeSuccess, response -> response)
+                    .exceptionallyCompose(error -> hedgeSuccess));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + requestSpec.getURI(), e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private CompletableFuture<Response> sendDuplicate(FilterableRequestSpecification requestSpec, long started) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(requestTimeout)
+                .GET();
+        for (Header header : requestSpec.getHeaders()) {
+            if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase())) {
+                request.header(header.getName(), header.getValue());
+            }
+        }
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> AsyncApiClient.toResponse(response,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)));
+    }
+
+    private static Response join(CompletableFuture<Response> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
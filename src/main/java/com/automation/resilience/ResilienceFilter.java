@@ -0,0 +1,81 @@
+package com.automation.resilience;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Fails a call before it is sent when the scenario {@link Deadline} has passed or the host's
+ * {@link CircuitBreaker} is open, and feeds connection outcomes back into the breaker. With retries enabled
+ * it is not registered itself; {@link RetryFilter} runs every attempt through {@link #attempt}.
+ */
+public class ResilienceFilter implements Filter {
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final int failureThreshold;
+    private final long openMillis;
+
+    public ResilienceFilter(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        return attempt(requestSpec, () -> ctx.next(requestSpec, responseSpec));
+    }
+
+    /**
+     * Sends one attempt of the call, checking the deadline and the host's breaker first. The body is read before
+     * the attempt counts as a success: RestAssured reads it lazily and only then returns the connection to the pool,
+     * so a response nobody looks at (no Allure filter, an unsampled attachment, a retried attempt) would keep its
+     * connection leased for good, and a body cut off mid-read is a connection failure like any other.
+     */
+    public Response attempt(FilterableRequestSpecification requestSpec, Supplier<Response> send) {
+        if (Deadline.remainingMillis() <= 0) {
+            throw new DeadlineExceededException("Scenario exceeded its deadline of " + Deadline.budgetMillis()
+                    + " ms before " + requestSpec.getMethod() + " " + requestSpec.getURI());
+        }
+        URI uri = URI.create(requestSpec.getURI());
+        String host = uri.getHost() + ":" + uri.getPort();
+        CircuitBreaker breaker = breakers.computeIfAbsent(host, key -> new CircuitBreaker(key, failureThreshold, openMillis));
+        breaker.acquirePermission();
+        try {
+            Response response = send.get();
+            response.asByteArray();
+            breaker.onSuccess();
+            return response;
+        } catch (Exception e) {
+            if (isConnectionFailure(e)) {
+                breaker.onConnectionFailure(e);
+            } else {
+                // Anything other than an I/O failure happened after the host answered
+                breaker.onSuccess();
+            }
+            throw e;
+        }
+    }
+
+    public CircuitBreaker.State getState(String host) {
+        CircuitBreaker breaker = breakers.get(host);
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.getState();
+    }
+
+    private static boolean isConnectionFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.automation.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global token bucket limiting retries (and hedged requests) to a fraction of the overall traffic, so a
+ * struggling service is not hit with a retry storm. Every request deposits {@code ratio} tokens, every retry
+ * withdraws one; the bucket starts with and never exceeds {@code maxTokens}.
+ */
+public class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void recordRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(capacity, current + deposit));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double getTokens() {
+        return balance.get() / (double) SCALE;
+    }
+}
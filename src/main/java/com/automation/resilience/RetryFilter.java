@@ -0,0 +1,74 @@
+package com.automation.resilience;
+
+import com.automation.utils.LogManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Retries idempotent calls that fail with a retryable status or an I/O error, as allowed by the
+ * {@link RetryPolicy} and the shared {@link RetryBudget}. Registered last, so a retry re-sends only the
+ * request itself and the filters before it see one logical exchange. Each attempt passes the deadline and
+ * circuit breaker checks of the {@link ResilienceFilter}, and no retry is scheduled past the deadline.
+ */
+public class RetryFilter implements Filter {
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final ResilienceFilter resilience;
+
+    public RetryFilter(RetryPolicy policy, RetryBudget budget, ResilienceFilter resilience) {
+        this.policy = policy;
+        this.budget = budget;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        budget.recordRequest();
+        boolean idempotent = policy.isIdempotent(requestSpec.getMethod(),
+                requestSpec.getHeaders().hasHeaderWithName(RetryPolicy.IDEMPOTENCY_KEY_HEADER));
+        int attempt = 0;
+        while (true) {
+            Response response;
+            try {
+                response = resilience.attempt(requestSpec, () -> ctx.next(requestSpec, responseSpec));
+            } catch (DeadlineExceededException | CircuitOpenException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                long delay = policy.delayMillis(++attempt, null);
+                if (!shouldRetry(idempotent, attempt, delay)) {
+                    throw e;
+                }
+                backOff(requestSpec, attempt, delay, e.toString());
+                continue;
+            }
+            if (!policy.isRetryable(response.getStatusCode())) {
+                return response;
+            }
+            long delay = policy.delayMillis(++attempt, response.getHeader("Retry-After"));
+            if (!shouldRetry(idempotent, attempt, delay)) {
+                return response;
+            }
+            backOff(requestSpec, attempt, delay, String.valueOf(response.getStatusCode()));
+        }
+    }
+
+    private boolean shouldRetry(boolean idempotent, int attempt, long delay) {
+        return idempotent && attempt <= policy.getMaxRetries() && delay < Deadline.remainingMillis() && budget.tryAcquire();
+    }
+
+    private void backOff(FilterableRequestSpecification requestSpec, int attempt, long delay, String cause) {
+        LogManager.warn("{} {} failed with {}; retry {} of {} in {} ms", requestSpec.getMethod(), requestSpec.getURI(),
+                cause, attempt, policy.getMaxRetries(), delay);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry " + requestSpec.getURI(), e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.automation.resilience;
+
+import com.automation.config.ConfigManager;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Which calls may be retried and how long to wait in between: exponential backoff with full jitter, capped,
+ * and never shorter than a server supplied {@code Retry-After}. Only idempotent methods are retried;
+ * a POST or PATCH qualifies only when it carries an {@code Idempotency-Key} header.
+ */
+public class RetryPolicy {
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final Set<Integer> retryableStatuses;
+
+    public RetryPolicy(int maxRetries, long baseDelayMs, long maxDelayMs, Set<Integer> retryableStatuses) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.retryableStatuses = retryableStatuses;
+    }
+
+    public static RetryPolicy from(ConfigManager configManager) {
+        Set<Integer> statuses = Arrays.stream(configManager.getRetryStatuses().split(","))
+                .map(String::trim)
+                .filter(status -> !status.isEmpty())
+                .map(Integer::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+        return new RetryPolicy(configManager.getMaxRetries(), configManager.getRetryBaseDelayMs(),
+                configManager.getRetryMaxDelayMs(), statuses);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public boolean isIdempotent(String method, boolean hasIdempotencyKey) {
+        return IDEMPOTENT_METHODS.contains(method.toUpperCase()) || hasIdempotencyKey;
+    }
+
+    public boolean isRetryable(int statusCode) {
+        return retryableStatuses.contains(statusCode);
+    }
+
+    /**
+     * Delay before retry number {@code attempt} (1-based).
+     */
+    public long delayMillis(int attempt, String retryAfter) {
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        long serverDelay = parseRetryAfterMillis(retryAfter);
+        return Math.min(maxDelayMs, Math.max(delay, serverDelay));
+    }
+
+    private static long parseRetryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            // HTTP-date form is not worth parsing here; fall back to the computed backoff
+            return 0;
+        }
+    }
+}
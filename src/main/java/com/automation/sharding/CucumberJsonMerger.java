@@ -0,0 +1,95 @@
+package com.automation.sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Merges the Cucumber JSON reports of several shards into one report; a feature split across shards becomes a
+ * single feature again. Usage: {@code CucumberJsonMerger [--expect <shards>] <output.json> <shard report or directory>...}
+ * With {@code --expect}, the merge fails unless every shard's {@code cucumber-<index>.json} is among the inputs, so a
+ * shard that never ran cannot go unnoticed behind a smaller merged report.
+ */
+public class CucumberJsonMerger {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CucumberJsonMerger() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int expectedShards = 0;
+        int first = 0;
+        if (args.length > 1 && args[0].equals("--expect")) {
+            expectedShards = Integer.parseInt(args[1]);
+            first = 2;
+        }
+        if (args.length - first < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: CucumberJsonMerger [--expect <shards>] <output.json> <report.json|directory>...");
+        }
+        List<Path> inputs = new ArrayList<>();
+        for (int i = first + 1; i < args.length; i++) {
+            Path input = Paths.get(args[i]);
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> files = Files.walk(input)) {
+                    files.filter(p -> p.toString().endsWith(".json")).sorted().forEach(inputs::add);
+                }
+            } else {
+                inputs.add(input);
+            }
+        }
+        Path output = Paths.get(args[first]);
+        inputs.remove(output);
+        List<String> missing = missingShards(inputs, expectedShards);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("No Cucumber report from shards " + missing + " among " + inputs);
+        }
+        merge(inputs, output);
+        System.out.println("Merged " + inputs.size() + " Cucumber reports into " + output);
+    }
+
+    /**
+     * Indexes below {@code expectedShards} without a {@code cucumber-<index>.json} report among the inputs.
+     */
+    public static List<String> missingShards(List<Path> reports, int expectedShards) {
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < expectedShards; i++) {
+            String name = "cucumber-" + i + ".json";
+            if (reports.stream().noneMatch(report -> report.getFileName().toString().equals(name))) {
+                missing.add(String.valueOf(i));
+            }
+        }
+        return missing;
+    }
+
+    public static void merge(List<Path> reports, Path output) throws IOException {
+        Map<String, ObjectNode> features = new LinkedHashMap<>();
+        for (Path report : reports) {
+            for (JsonNode feature : MAPPER.readTree(report.toFile())) {
+                ObjectNode merged = features.get(feature.path("uri").asText());
+                if (merged == null) {
+                    features.put(feature.path("uri").asText(), ((ObjectNode) feature).deepCopy());
+                } else if (feature.path("elements").isArray()) {
+                    merged.withArrayProperty("elements").addAll((ArrayNode) feature.get("elements"));
+                }
+            }
+        }
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        ArrayNode result = MAPPER.createArrayNode();
+        features.values().forEach(result::add);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+    }
+}
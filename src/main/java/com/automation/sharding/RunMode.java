@@ -0,0 +1,17 @@
+package com.automation.sharding;
+
+/**
+ * Which scenarios a run executes and in what order, based on the outcomes in the {@link ScenarioHistory}.
+ */
+public enum RunMode {
+    /** Every scenario, in feature file order */
+    ALL,
+    /** Only scenarios whose latest recorded run did not pass */
+    FAILED_ONLY,
+    /** Every scenario, previously failed ones first, then fastest first */
+    FAILED_FIRST;
+
+    public static RunMode from(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,66 @@
+package com.automation.sharding;
+
+import com.automation.config.ConfigManager;
+
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Orders scenarios failed-first, then fastest-first, from their recorded history. Scenarios without history
+ * count as passed with the median duration.
+ */
+public class RunOrder {
+    private static final Comparator<Rank> RANKING = Comparator.comparing(Rank::failed).reversed()
+            .thenComparingLong(Rank::millis);
+
+    private final ScenarioHistory history;
+    private final Rank unknown;
+    private final Map<String, Rank> byName = new HashMap<>();
+
+    public RunOrder(ScenarioHistory history, long defaultMillis) {
+        this.history = history;
+        this.unknown = new Rank(false, history.medianMillis(defaultMillis));
+        history.getEntries().forEach((key, entry) -> byName.merge(key.substring(key.indexOf("::") + 2),
+                rank(entry), (a, b) -> RANKING.compare(a, b) <= 0 ? a : b));
+    }
+
+    /**
+     * Order for this run in {@code run.mode=failed-first}; null in the other modes, which keep feature file order.
+     */
+    public static RunOrder forCurrentRun() {
+        ConfigManager config = ConfigManager.getInstance();
+        if (RunMode.from(config.getRunMode()) != RunMode.FAILED_FIRST) {
+            return null;
+        }
+        return new RunOrder(ScenarioHistory.load(Paths.get(config.getHistoryDir())), config.getShardDefaultDurationMs());
+    }
+
+    /**
+     * Compares history keys ({@code feature path::scenario name}).
+     */
+    public Comparator<String> byKey() {
+        return Comparator.comparing(this::rankOfKey, RANKING);
+    }
+
+    /**
+     * Compares bare scenario names, for runners that do not expose the feature file; a name shared by
+     * several features takes the highest priority among them.
+     */
+    public Comparator<String> byName() {
+        return Comparator.comparing(name -> byName.getOrDefault(name, unknown), RANKING);
+    }
+
+    private Rank rankOfKey(String key) {
+        ScenarioHistory.Entry entry = history.get(key);
+        return entry == null ? unknown : rank(entry);
+    }
+
+    private static Rank rank(ScenarioHistory.Entry entry) {
+        return new Rank(entry.failed(), Math.round(entry.meanMillis()));
+    }
+
+    private record Rank(boolean failed, long millis) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.automation.sharding;
+
+import com.automation.utils.LogManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-scenario durations and latest outcomes from previous runs, keyed by {@code feature path::scenario name}.
+ * Every shard writes its own JSON file into the history directory; loading merges all of them, newest entry first.
+ */
+public class ScenarioHistory {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<Map<String, Entry>> ENTRIES = new TypeReference<>() {
+    };
+    private static final Path WORKING_DIR = Paths.get("").toAbsolutePath();
+    /** Weight of the latest run in the moving average; older runs decay geometrically */
+    private static final double ALPHA = 0.3;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public static ScenarioHistory load(Path directory) {
+        ScenarioHistory history = new ScenarioHistory();
+        if (!Files.isDirectory(directory)) {
+            return history;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".json")).sorted()::iterator) {
+                try {
+                    MAPPER.readValue(file.toFile(), ENTRIES).forEach(history::merge);
+                } catch (IOException e) {
+                    LogManager.warn("Ignoring unreadable scenario history {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LogManager.warn("Unable to list scenario history in {}: {}", directory, e.getMessage());
+        }
+        return history;
+    }
+
+    public static String key(String featurePath, String scenarioName) {
+        return featurePath + "::" + scenarioName;
+    }
+
+    /**
+     * Feature location relative to the working directory with '/' separators, so keys written on one
+     * machine or checkout match on another. Classpath URIs keep their path as is.
+     */
+    public static String featurePath(URI uri) {
+        if ("file".equals(uri.getScheme())) {
+            Path path = Paths.get(uri).toAbsolutePath().normalize();
+            return (path.startsWith(WORKING_DIR) ? WORKING_DIR.relativize(path) : path).toString().replace('\\', '/');
+        }
+        return uri.getSchemeSpecificPart().replaceFirst("^/+", "");
+    }
+
+    public static String featurePath(Path file) {
+        return featurePath(file.toUri());
+    }
+
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public Map<String, Entry> getEntries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Folds one run of a scenario into its moving average.
+     */
+    public void record(String key, long millis, String status) {
+        long now = System.currentTimeMillis();
+        entries.compute(key, (k, previous) -> previous == null
+                ? new Entry(millis, 1, status, now)
+                : new Entry(ALPHA * millis + (1 - ALPHA) * previous.meanMillis(), previous.runs() + 1, status, now));
+    }
+
+    /**
+     * Median of all known scenario averages; used as the estimate for scenarios without history.
+     */
+    public long medianMillis(long fallback) {
+        List<Double> means = new ArrayList<>(entries.size());
+        entries.values().forEach(entry -> means.add(entry.meanMillis()));
+        if (means.isEmpty()) {
+            return fallback;
+        }
+        Collections.sort(means);
+        return Math.round(means.get(means.size() / 2));
+    }
+
+    public void save(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            MAPPER.writeValue(temp.toFile(), new TreeMap<>(entries));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing scenario history to " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void merge(String key, Entry entry) {
+        entries.merge(key, entry, (a, b) -> a.updatedAt() >= b.updatedAt() ? a : b);
+    }
+
+    /**
+     * Moving-average duration, number of recorded runs, and status and time of the latest run
+     */
+    public record Entry(double meanMillis, int runs, String lastStatus, long updatedAt) {
+
+        /**
+         * Whether the latest run ended in any status other than passed or skipped.
+         */
+        public boolean failed() {
+            return !"PASSED".equals(lastStatus) && !"SKIPPED".equals(lastStatus);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.automation.sharding;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.LogManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that records how long every scenario took and stores it in the scenario history at the end
+ * of the run. Examples of a Scenario Outline are summed, since the outline is scheduled as one unit.
+ */
+public class ScenarioHistoryPlugin implements ConcurrentEventListener {
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> save());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        String key = ScenarioHistory.key(ScenarioHistory.featurePath(testCase.getUri()), testCase.getName());
+        long millis = event.getResult().getDuration().toMillis();
+        Status status = event.getResult().getStatus();
+        runs.merge(key, new Run(millis, status), (a, b) ->
+                new Run(a.millis() + b.millis(), a.status().ordinal() >= b.status().ordinal() ? a.status() : b.status()));
+    }
+
+    private void save() {
+        if (runs.isEmpty()) {
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        Path directory = Paths.get(config.getHistoryDir());
+        ScenarioHistory history = ScenarioHistory.load(directory);
+        runs.forEach((key, run) -> history.record(key, run.millis(), run.status().name()));
+        String fileName = config.getShardTotal() > 1 ? "durations-shard-" + config.getShardIndex() + ".json" : "durations.json";
+        history.save(directory.resolve(fileName));
+        LogManager.info("Recorded durations of {} scenarios in {}", runs.size(), directory.resolve(fileName));
+    }
+
+    private record Run(long millis, Status status) {
+    }
+}
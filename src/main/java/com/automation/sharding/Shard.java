@@ -0,0 +1,40 @@
+package com.automation.sharding;
+
+import com.automation.load.FeatureScenario;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Scenarios assigned to one shard and their estimated total duration
+ */
+public record Shard(int index, List<FeatureScenario> scenarios, long estimatedMillis) {
+
+    /**
+     * Cucumber feature selectors such as {@code src/test/resources/features/Users.feature:12:30}, one per file.
+     */
+    public List<String> selectors() {
+        Map<String, StringBuilder> byFile = new TreeMap<>();
+        for (FeatureScenario scenario : scenarios) {
+            byFile.computeIfAbsent(ScenarioHistory.featurePath(scenario.file()), StringBuilder::new)
+                    .append(':').append(scenario.line());
+        }
+        List<String> selectors = new ArrayList<>(byFile.size());
+        byFile.values().forEach(selector -> selectors.add(selector.toString()));
+        return selectors;
+    }
+
+    /**
+     * Whether the scenario (or outline) declared at {@code line} of the feature belongs to this shard.
+     */
+    public boolean contains(String featurePath, int line) {
+        for (FeatureScenario scenario : scenarios) {
+            if (scenario.line() == line && ScenarioHistory.featurePath(scenario.file()).equals(featurePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
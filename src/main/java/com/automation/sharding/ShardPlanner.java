@@ -0,0 +1,124 @@
+package com.automation.sharding;
+
+import com.automation.config.ConfigManager;
+import com.automation.load.FeatureScenario;
+import com.automation.load.FeatureScenarioParser;
+import com.automation.utils.LogManager;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Splits scenarios into shards of similar total duration using their recorded history (longest first, each onto the
+ * currently lightest shard). Scenarios without history are estimated at the median of the known ones.
+ * The plan only depends on the feature files and the history, so every fork or agent computes the same one.
+ */
+public class ShardPlanner {
+    private final ScenarioHistory history;
+    private final long unknownMillis;
+
+    public ShardPlanner(ScenarioHistory history, long defaultMillis) {
+        this.history = history;
+        this.unknownMillis = history.medianMillis(defaultMillis);
+    }
+
+    /**
+     * Scenarios this run executes: the feature files that match the runner's tag expression, narrowed to the
+     * previously failed ones in {@code run.mode=failed-only}, then to shard {@code shard.index} of
+     * {@code shard.total}. Null when neither applies and the runner should run everything.
+     */
+    public static Shard currentShard(String tagExpression) {
+        ConfigManager config = ConfigManager.getInstance();
+        int total = config.getShardTotal();
+        boolean failedOnly = RunMode.from(config.getRunMode()) == RunMode.FAILED_ONLY;
+        if (total <= 1 && !failedOnly) {
+            return null;
+        }
+        int index = config.getShardIndex();
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (total - 1) + " but was " + index);
+        }
+        ScenarioHistory history = ScenarioHistory.load(Paths.get(config.getHistoryDir()));
+        Expression tags = tagExpression == null || tagExpression.isBlank() ? null : TagExpressionParser.parse(tagExpression);
+        List<FeatureScenario> scenarios = new ArrayList<>();
+        Set<String> outlines = new HashSet<>();
+        for (FeatureScenario scenario : new FeatureScenarioParser().parseDirectory(Paths.get(config.getFeaturesPath()))) {
+            // The examples of an outline share its line and run as one unit, like their recorded duration
+            if (!outlines.add(scenario.file() + ":" + scenario.line())) {
+                continue;
+            }
+            if ((tags == null || tags.evaluate(new ArrayList<>(scenario.tags()))) && (!failedOnly || failed(history, scenario))) {
+                scenarios.add(scenario);
+            }
+        }
+        if (failedOnly) {
+            LogManager.info("run.mode=failed-only: {} previously failed scenarios selected", scenarios.size());
+        }
+        List<Shard> shards = new ShardPlanner(history, config.getShardDefaultDurationMs()).plan(scenarios, total);
+        if (total > 1) {
+            LogManager.info("Shard plan for {} scenarios (this is shard {}):\n{}", scenarios.size(), index, summary(shards));
+        }
+        return shards.get(index);
+    }
+
+    private static boolean failed(ScenarioHistory history, FeatureScenario scenario) {
+        ScenarioHistory.Entry entry = history.get(key(scenario));
+        return entry != null && entry.failed();
+    }
+
+    public List<Shard> plan(List<FeatureScenario> scenarios, int total) {
+        List<FeatureScenario> ordered = new ArrayList<>(scenarios);
+        ordered.sort(Comparator.comparingLong(this::estimateMillis).reversed().thenComparing(ShardPlanner::key));
+
+        List<Bin> bins = new ArrayList<>(total);
+        PriorityQueue<Bin> lightest = new PriorityQueue<>(
+                Comparator.comparingLong((Bin bin) -> bin.millis).thenComparingInt(bin -> bin.index));
+        for (int i = 0; i < total; i++) {
+            Bin bin = new Bin(i);
+            bins.add(bin);
+            lightest.add(bin);
+        }
+        for (FeatureScenario scenario : ordered) {
+            Bin bin = lightest.poll();
+            bin.scenarios.add(scenario);
+            bin.millis += estimateMillis(scenario);
+            lightest.add(bin);
+        }
+        List<Shard> shards = new ArrayList<>(total);
+        bins.forEach(bin -> shards.add(new Shard(bin.index, List.copyOf(bin.scenarios), bin.millis)));
+        return shards;
+    }
+
+    public long estimateMillis(FeatureScenario scenario) {
+        ScenarioHistory.Entry entry = history.get(key(scenario));
+        return entry != null ? Math.round(entry.meanMillis()) : unknownMillis;
+    }
+
+    static String key(FeatureScenario scenario) {
+        return ScenarioHistory.key(ScenarioHistory.featurePath(scenario.file()), scenario.name());
+    }
+
+    public static String summary(List<Shard> shards) {
+        StringBuilder summary = new StringBuilder(String.format("%-6s %10s %14s%n", "Shard", "Scenarios", "Estimated s"));
+        shards.forEach(shard -> summary.append(String.format("%-6d %10d %14.1f%n",
+                shard.index(), shard.scenarios().size(), shard.estimatedMillis() / 1000.0)));
+        return summary.toString();
+    }
+
+    private static class Bin {
+        private final int index;
+        private final List<FeatureScenario> scenarios = new ArrayList<>();
+        private long millis;
+
+        Bin(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.automation.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Canned ReqRes behaviour for every route in {@link com.automation.constants.EndPoints}
+ */
+class ReqresStubRoutes {
+    private static final int PER_PAGE = 6;
+    private static final String[][] USERS = {
+            {"george", "bluth"}, {"janet", "weaver"}, {"emma", "wong"}, {"eve", "holt"},
+            {"charles", "morris"}, {"tracey", "ramos"}, {"michael", "lawson"}, {"lindsay", "ferguson"},
+            {"tobias", "funke"}, {"byron", "fields"}, {"george", "edwards"}, {"rachel", "howell"}
+    };
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicInteger idSequence = new AtomicInteger(100);
+
+    StubResponse route(String method, URI uri, String body) {
+        String path = normalize(uri.getPath());
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+
+        if (path.equals("users")) {
+            if (method.equals("GET")) {
+                return listUsers(intParam(query, "page", 1), intParam(query, "per_page", PER_PAGE));
+            }
+            if (method.equals("POST")) {
+                return echo(201, body, "createdAt", true);
+            }
+        } else if (path.startsWith("users/")) {
+            Integer id = parseId(path.substring("users/".length()));
+            switch (method) {
+                case "GET":
+                    return id != null && id >= 1 && id <= USERS.length
+                            ? StubResponse.json(200, singleUser(id))
+                            : StubResponse.json(404, "{}");
+                case "PUT":
+                case "PATCH":
+                    return echo(200, body, "updatedAt", false);
+                case "DELETE":
+                    return StubResponse.noContent();
+                default:
+                    break;
+            }
+        } else if (method.equals("POST") && (path.equals("register") || path.equals("signup"))) {
+            return register(body);
+        } else if (method.equals("POST") && path.equals("login")) {
+            return login(body);
+        }
+        return StubResponse.json(404, "{}");
+    }
+
+    private StubResponse listUsers(int page, int perPage) {
+        int totalPages = (USERS.length + perPage - 1) / perPage;
+        ObjectNode root = mapper.createObjectNode();
+        root.put("page", page);
+        root.put("per_page", perPage);
+        root.put("total", USERS.length);
+        root.put("total_pages", totalPages);
+        ArrayNode data = root.putArray("data");
+        for (int id = (page - 1) * perPage + 1; id <= Math.min(page * perPage, USERS.length); id++) {
+            data.add(user(id));
+        }
+        root.set("support", support());
+        return StubResponse.json(200, root.toString());
+    }
+
+    private String singleUser(int id) {
+        ObjectNode root = mapper.createObjectNode();
+        root.set("data", user(id));
+        root.set("support", support());
+        return root.toString();
+    }
+
+    private ObjectNode user(int id) {
+        String[] name = USERS[id - 1];
+        ObjectNode user = mapper.createObjectNode();
+        user.put("id", id);
+        user.put("email", name[0] + "." + name[1] + "@reqres.in");
+        user.put("first_name", capitalize(name[0]));
+        user.put("last_name", capitalize(name[1]));
+        user.put("avatar", "https://reqres.in/img/faces/" + id + "-image.jpg");
+        return user;
+    }
+
+    private ObjectNode support() {
+        ObjectNode support = mapper.createObjectNode();
+        support.put("url", "https://contentcaddy.io");
+        support.put("text", "Tired of writing endless social media content? Let Content Caddy generate it for you.");
+        return support;
+    }
+
+    private StubResponse echo(int status, String body, String timestampField, boolean assignId) {
+        ObjectNode payload = parseObject(body);
+        if (payload == null) {
+            return StubResponse.json(400, "{\"error\":\"Bad Request\"}");
+        }
+        if (assignId) {
+            payload.put("id", String.valueOf(idSequence.incrementAndGet()));
+        }
+        payload.put(timestampField, Instant.now().toString());
+        return StubResponse.json(status, payload.toString());
+    }
+
+    private StubResponse register(String body) {
+        ObjectNode credentials = parseObject(body);
+        if (credentials == null || !credentials.hasNonNull("email")) {
+            return StubResponse.json(400, "{\"error\":\"Missing email or username\"}");
+        }
+        if (!credentials.hasNonNull("password")) {
+            return StubResponse.json(400, "{\"error\":\"Missing password\"}");
+        }
+        ObjectNode result = mapper.createObjectNode();
+        result.put("id", idSequence.incrementAndGet());
+        result.put("token", token(credentials.get("email").asText()));
+        return StubResponse.json(200, result.toString());
+    }
+
+    private StubResponse login(String body) {
+        ObjectNode credentials = parseObject(body);
+        if (credentials == null || !credentials.hasNonNull("email")) {
+            return StubResponse.json(400, "{\"error\":\"Missing email or username\"}");
+        }
+        if (!credentials.hasNonNull("password")) {
+            return StubResponse.json(400, "{\"error\":\"Missing password\"}");
+        }
+        return StubResponse.json(200, "{\"token\":\"" + token(credentials.get("email").asText()) + "\"}");
+    }
+
+    private ObjectNode parseObject(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode node = mapper.readTree(body);
+            return node instanceof ObjectNode ? (ObjectNode) node : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String token(String email) {
+        return "QpwL5tke4Pnpja7X" + Integer.toHexString(email.hashCode());
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.startsWith("/") ? path.substring(1) : path;
+        if (normalized.startsWith("api/")) {
+            normalized = normalized.substring("api/".length());
+        }
+        return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    query.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+        return query;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        Integer value = parseId(query.get(name));
+        return value == null || value < 1 ? defaultValue : value;
+    }
+
+    private static Integer parseId(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
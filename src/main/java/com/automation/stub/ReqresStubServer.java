@@ -0,0 +1,118 @@
+package com.automation.stub;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.LogManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded ReqRes stub server running on virtual threads, with latency/jitter and error injection
+ */
+public class ReqresStubServer {
+    private static ReqresStubServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ReqresStubRoutes routes;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final int errorStatus;
+
+    private ReqresStubServer(ConfigManager configManager) throws IOException {
+        this.latencyMs = configManager.getStubLatencyMs();
+        this.jitterMs = configManager.getStubJitterMs();
+        this.errorRate = configManager.getStubErrorRate();
+        this.errorStatus = configManager.getStubErrorStatus();
+        this.routes = new ReqresStubRoutes();
+        // Platform threads: the Apache client pins virtual threads while it waits for a pooled connection, and on
+        // a small machine that can take every carrier thread, so a stub on virtual threads would stop answering
+        this.executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("reqres-stub-", 0).daemon().factory());
+        this.server = HttpServer.create(new InetSocketAddress("localhost", configManager.getStubPort()), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Starts the stub once per JVM and points {@code api.base.url} at it.
+     */
+    public static synchronized ReqresStubServer ensureStarted() {
+        if (instance == null) {
+            long started = System.nanoTime();
+            try {
+                instance = new ReqresStubServer(ConfigManager.getInstance());
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to start ReqRes stub server: " + e.getMessage(), e);
+            }
+            instance.server.start();
+            System.setProperty("api.base.url", instance.getBaseUrl());
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "reqres-stub-shutdown"));
+            LogManager.info("ReqRes stub server started on " + instance.getBaseUrl() + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+        }
+        return instance;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] requestBody;
+            try (InputStream in = exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            }
+            injectLatency();
+
+            StubResponse stubResponse;
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                stubResponse = StubResponse.json(errorStatus, "{\"error\":\"Injected fault\"}");
+            } else {
+                stubResponse = routes.route(exchange.getRequestMethod(), exchange.getRequestURI(),
+                        new String(requestBody, StandardCharsets.UTF_8));
+            }
+            write(exchange, stubResponse);
+        }
+    }
+
+    private void injectLatency() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void write(HttpExchange exchange, StubResponse stubResponse) throws IOException {
+        exchange.getResponseHeaders().set("Server", "cloudflare");
+        if (stubResponse.body() == null) {
+            exchange.sendResponseHeaders(stubResponse.status(), -1);
+            return;
+        }
+        byte[] body = stubResponse.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(stubResponse.status(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
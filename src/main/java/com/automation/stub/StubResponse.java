@@ -0,0 +1,15 @@
+package com.automation.stub;
+
+/**
+ * Status and JSON body returned by a stub route; a null body means no content
+ */
+public record StubResponse(int status, String body) {
+
+    public static StubResponse json(int status, String body) {
+        return new StubResponse(status, body);
+    }
+
+    public static StubResponse noContent() {
+        return new StubResponse(204, null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.automation.utils;
+
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread bounded ring buffer of HTTP exchanges. Exchanges are captured by reference and only
+ * formatted when {@link #drain()} is called, i.e. when a scenario failed and its traffic is worth printing.
+ * Requests a scenario sends on other threads share its buffer through {@link #bind}.
+ */
+public class ExchangeLogBuffer {
+    private static final int DEFAULT_CAPACITY = 50;
+    private static final int DEFAULT_MAX_BODY_CHARS = 8192;
+    private static final ThreadLocal<ExchangeLogBuffer> BUFFER = new ThreadLocal<>();
+
+    private static volatile int capacity = DEFAULT_CAPACITY;
+    private static volatile int maxBodyChars = DEFAULT_MAX_BODY_CHARS;
+
+    private final Exchange[] ring;
+    private int next;
+    private int size;
+
+    private ExchangeLogBuffer(int capacity) {
+        this.ring = new Exchange[capacity];
+    }
+
+    public static void configure(int bufferCapacity, int bodyLimit) {
+        capacity = Math.max(1, bufferCapacity);
+        maxBodyChars = Math.max(0, bodyLimit);
+    }
+
+    public static void record(String method, String uri, Object requestHeaders, Object requestBody, Response response) {
+        ExchangeLogBuffer buffer = current();
+        synchronized (buffer) {
+            buffer.ring[buffer.next] = new Exchange(method, uri, requestHeaders, requestBody, response);
+            buffer.next = (buffer.next + 1) % buffer.ring.length;
+            buffer.size = Math.min(buffer.size + 1, buffer.ring.length);
+        }
+    }
+
+    /**
+     * Runs {@code task} recording into the calling thread's buffer, for requests sent on another thread.
+     */
+    public static <T> Supplier<T> bind(Supplier<T> task) {
+        ExchangeLogBuffer buffer = current();
+        return () -> {
+            BUFFER.set(buffer);
+            try {
+                return task.get();
+            } finally {
+                BUFFER.remove();
+            }
+        };
+    }
+
+    private static ExchangeLogBuffer current() {
+        ExchangeLogBuffer buffer = BUFFER.get();
+        if (buffer == null) {
+            buffer = new ExchangeLogBuffer(capacity);
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Formats the buffered exchanges of the current thread, oldest first, and clears the buffer.
+     */
+    public static String drain() {
+        ExchangeLogBuffer buffer = BUFFER.get();
+        BUFFER.remove();
+        if (buffer == null) {
+            return "";
+        }
+        synchronized (buffer) {
+            StringBuilder out = new StringBuilder();
+            int start = (buffer.next - buffer.size + buffer.ring.length) % buffer.ring.length;
+            for (int i = 0; i < buffer.size; i++) {
+                buffer.ring[(start + i) % buffer.ring.length].appendTo(out);
+            }
+            return out.toString();
+        }
+    }
+
+    public static void clear() {
+        BUFFER.remove();
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= maxBodyChars) {
+            return value;
+        }
+        return value.substring(0, maxBodyChars) + "... [" + (value.length() - maxBodyChars) + " more chars]";
+    }
+
+    private record Exchange(String method, String uri, Object requestHeaders, Object requestBody, Response response) {
+
+        void appendTo(StringBuilder out) {
+            out.append("Request: ").append(method).append(' ').append(uri).append('\n');
+            out.append("Headers: ").append(requestHeaders).append('\n');
+            if (requestBody != null) {
+                out.append("Body: ").append(truncate(requestBody instanceof byte[] bytes
+                        ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(requestBody))).append('\n');
+            }
+            if (response == null) {
+                out.append("Response: <none>\n\n");
+                return;
+            }
+            out.append("Response: ").append(response.getStatusLine()).append('\n');
+            out.append("Headers: ").append(response.getHeaders().asList()).append('\n');
+            out.append("Body: ").append(truncate(response.asString())).append("\n\n");
+        }
+    }
+}
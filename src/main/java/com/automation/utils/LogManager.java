@@ -4,7 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Log Manager for consistent logging across the framework
+ * Log Manager for consistent logging across the framework.
+ * Prefer the parameterized overloads ({@code "Sent {} to {}"}): the message is only built when the level is enabled.
  */
 public class LogManager {
     private static final Logger logger = LoggerFactory.getLogger(LogManager.class);
@@ -13,10 +14,18 @@ public class LogManager {
         logger.info(message);
     }
 
+    public static void info(String format, Object... args) {
+        logger.info(format, args);
+    }
+
     public static void error(String message) {
         logger.error(message);
     }
 
+    public static void error(String format, Object... args) {
+        logger.error(format, args);
+    }
+
     public static void error(String message, Throwable throwable) {
         logger.error(message, throwable);
     }
@@ -25,8 +34,20 @@ public class LogManager {
         logger.debug(message);
     }
 
+    public static void debug(String format, Object... args) {
+        logger.debug(format, args);
+    }
+
     public static void warn(String message) {
         logger.warn(message);
     }
 
-}
\ No newline at end of file
+    public static void warn(String format, Object... args) {
+        logger.warn(format, args);
+    }
+
+    public static boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.automation.cassette;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Record/replay round trip through the binary cassette file and its FNV-1a index.
+ */
+public class CassetteTest {
+
+    @Test
+    public void hashesKeysWithFnv1a() {
+        // Reference vectors of the 64-bit FNV-1a function
+        Assert.assertEquals(CassetteKey.hash(""), 0xcbf29ce484222325L);
+        Assert.assertEquals(CassetteKey.hash("a"), 0xaf63dc4c8601ec8cL);
+        Assert.assertEquals(CassetteKey.hash("foobar"), 0x85944171f73967e8L);
+    }
+
+    @Test
+    public void keysIgnoreHostQueryOrderAndJsonLayout() {
+        String recorded = CassetteKey.of("post", URI.create("https://reqres.in/api/users?b=2&a=1"),
+                "{\"name\":\"neo\",\"job\":\"one\"}", true);
+        String replayed = CassetteKey.of("POST", URI.create("http://localhost:8089/api/users?a=1&b=2"),
+                "{ \"job\": \"one\", \"name\": \"neo\" }".getBytes(StandardCharsets.UTF_8), true);
+        Assert.assertEquals(replayed, recorded);
+    }
+
+    @Test
+    public void keysMatchBodiesByShapeUnlessExact() {
+        URI users = URI.create("https://reqres.in/api/users");
+        String generated = CassetteKey.of("POST", users, "{\"name\":\"user-17\",\"job\":\"qa\",\"age\":30}", false);
+        Assert.assertEquals(CassetteKey.of("POST", users, "{\"age\":41,\"job\":\"dev\",\"name\":\"user-92\"}", false), generated,
+                "Generated values must not change the key");
+        Assert.assertNotEquals(CassetteKey.of("POST", users, "{\"name\":\"user-17\"}", false), generated);
+        Assert.assertNotEquals(CassetteKey.of("POST", users, "----invalid----", false), generated);
+        Assert.assertNotEquals(CassetteKey.of("POST", users, "{\"name\":\"user-92\",\"job\":\"dev\",\"age\":41}", true),
+                CassetteKey.of("POST", users, "{\"name\":\"user-17\",\"job\":\"qa\",\"age\":30}", true));
+    }
+
+    @Test
+    public void replaysRecordedExchangesAfterReopening() throws IOException {
+        Path file = Files.createTempDirectory("cassette").resolve("round-trip.cassette");
+        Cassette recording = Cassette.open(file);
+        RecordedExchange user = exchange("GET /api/users/2", 200, "{\"data\":{\"id\":2}}");
+        RecordedExchange created = exchange("POST /api/users", 201, "{\"id\":\"17\"}");
+        RecordedExchange deleted = exchange("DELETE /api/users/2", 204, "");
+        recording.record(user);
+        recording.record(created);
+        recording.record(deleted);
+        recording.flush();
+
+        Cassette replay = Cassette.open(file);
+        Assert.assertEquals(replay.size(), 3);
+        assertSameExchange(replay.next(user.key()), user);
+        assertSameExchange(replay.next(created.key()), created);
+        assertSameExchange(replay.next(deleted.key()), deleted);
+        Assert.assertNull(replay.next("GET /api/users/3"), "Unrecorded key must not match");
+
+        // Re-recording keeps the mapped entries and adds the new one
+        RecordedExchange list = exchange("GET /api/users?page=2", 200, "{\"page\":2}");
+        replay.record(list);
+        replay.flush();
+        Cassette merged = Cassette.open(file);
+        Assert.assertEquals(merged.size(), 4);
+        assertSameExchange(merged.next(user.key()), user);
+        assertSameExchange(merged.next(list.key()), list);
+    }
+
+    @Test
+    public void replaysEveryResponseSharingAKeyInRecordedOrder() throws IOException {
+        Path file = Files.createTempDirectory("cassette").resolve("variants.cassette");
+        Cassette recording = Cassette.open(file);
+        RecordedExchange morpheus = exchange("POST /api/users {name:s,job:s}", 201, "{\"name\":\"morpheus\"}");
+        RecordedExchange neo = exchange("POST /api/users {name:s,job:s}", 201, "{\"name\":\"neo\"}");
+        RecordedExchange user = exchange("GET /api/users/2", 200, "{\"data\":{\"id\":2}}");
+        recording.record(morpheus);
+        recording.record(user);
+        recording.record(neo);
+        recording.record(user);
+        recording.flush();
+
+        Cassette replay = Cassette.open(file);
+        Assert.assertEquals(replay.size(), 3, "Repeated identical responses are stored once");
+        Assert.assertEquals(replay.findAll(morpheus.key()).size(), 2);
+        assertSameExchange(replay.next(morpheus.key()), morpheus);
+        assertSameExchange(replay.next(neo.key()), neo);
+        assertSameExchange(replay.next(morpheus.key()), morpheus);
+        assertSameExchange(replay.next(user.key()), user);
+        assertSameExchange(replay.next(user.key()), user);
+    }
+
+    private static RecordedExchange exchange(String key, int status, String body) {
+        return new RecordedExchange(key, status, "HTTP/1.1 " + status,
+                List.<String[]>of(new String[]{"Content-Type", "application/json; charset=utf-8"}, new String[]{"Server", "cloudflare"}),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertSameExchange(RecordedExchange actual, RecordedExchange expected) {
+        Assert.assertNotNull(actual, "No exchange replayed for " + expected.key());
+        Assert.assertEquals(actual.key(), expected.key());
+        Assert.assertEquals(actual.statusCode(), expected.statusCode());
+        Assert.assertEquals(actual.statusLine(), expected.statusLine());
+        Assert.assertEquals(actual.headers().size(), expected.headers().size());
+        for (int i = 0; i < expected.headers().size(); i++) {
+            Assert.assertEquals(actual.headers().get(i), expected.headers().get(i));
+        }
+        Assert.assertEquals(actual.body(), expected.body());
+    }
+}
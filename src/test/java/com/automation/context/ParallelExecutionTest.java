@@ -0,0 +1,69 @@
+package com.automation.context;
+
+import com.automation.clients.ApiClient;
+import com.automation.clients.UserServiceController;
+import com.automation.config.ConfigManager;
+import com.automation.constants.EndPoints;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends requests through the shared client from {@value #THREADS} threads at once, released together by a barrier,
+ * and checks that every thread saw the same singletons, kept its own scenario context and got its response.
+ * It sends {@value #INVOCATIONS} requests, so it only runs against the stub, from the framework suite
+ * ({@code mvn test -Pframework}) rather than from every shard.
+ */
+public class ParallelExecutionTest {
+    private static final int THREADS = 32;
+    private static final int INVOCATIONS = THREADS * 4;
+
+    private final CyclicBarrier start = new CyclicBarrier(THREADS);
+    private final Set<ApiClient> clients = ConcurrentHashMap.newKeySet();
+    private final Set<ConfigManager> configs = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger responses = new AtomicInteger();
+
+    @BeforeClass
+    public void requireStub() {
+        if (!ConfigManager.getInstance().isStubEnabled()) {
+            throw new SkipException("Parallel execution is only checked against the stub (-Denv=stub)");
+        }
+    }
+
+    @Test(invocationCount = INVOCATIONS, threadPoolSize = THREADS)
+    public void sharesClientAndIsolatesScenarioState() throws InterruptedException, BrokenBarrierException, TimeoutException {
+        String owner = Thread.currentThread().getName() + "-" + System.nanoTime();
+        ScenarioContext context = ScenarioContext.begin(null);
+        try {
+            context.put("owner", owner);
+            start.await(30, TimeUnit.SECONDS);
+            clients.add(ApiClient.getInstance());
+            configs.add(ConfigManager.getInstance());
+
+            context.setResponse(UserServiceController.getUser(EndPoints.SINGLE_USER));
+
+            Assert.assertSame(ScenarioContext.current(), context, "Scenario context replaced by another thread");
+            Assert.assertEquals(ScenarioContext.current().<String>get("owner"), owner, "Scenario state leaked between threads");
+            Assert.assertEquals(context.getResponse().getStatusCode(), 200);
+            responses.incrementAndGet();
+        } finally {
+            ScenarioContext.end();
+        }
+    }
+
+    @Test(dependsOnMethods = "sharesClientAndIsolatesScenarioState")
+    public void sawOneInstanceAndLostNoUpdates() {
+        Assert.assertEquals(clients.size(), 1, "ApiClient instances created under contention");
+        Assert.assertEquals(configs.size(), 1, "ConfigManager instances created under contention");
+        Assert.assertEquals(responses.get(), INVOCATIONS, "Invocations that got their response");
+    }
+}
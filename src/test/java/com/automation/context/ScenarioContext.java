@@ -0,0 +1,73 @@
+package com.automation.context;
+
+import com.automation.models.Post;
+import io.cucumber.java.Scenario;
+import io.restassured.response.Response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-scenario state shared between step definition classes.
+ * A scenario always runs on a single thread, so the context is bound to that thread from the Before to the After hook.
+ */
+public class ScenarioContext {
+    private static final ThreadLocal<ScenarioContext> CURRENT = new ThreadLocal<>();
+
+    private final Scenario scenario;
+    private final Map<String, Object> values = new HashMap<>();
+    private Response response;
+    private Post testPost;
+
+    private ScenarioContext(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public static ScenarioContext begin(Scenario scenario) {
+        ScenarioContext context = new ScenarioContext(scenario);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static ScenarioContext current() {
+        ScenarioContext context = CURRENT.get();
+        if (context == null) {
+            throw new IllegalStateException("No scenario context bound to " + Thread.currentThread().getName()
+                    + "; is com.automation.hooks on the glue path?");
+        }
+        return context;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public Response getResponse() {
+        return response;
+    }
+
+    public void setResponse(Response response) {
+        this.response = response;
+    }
+
+    public Post getTestPost() {
+        return testPost;
+    }
+
+    public void setTestPost(Post testPost) {
+        this.testPost = testPost;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        return (T) values.get(key);
+    }
+
+    public void put(String key, Object value) {
+        values.put(key, value);
+    }
+}
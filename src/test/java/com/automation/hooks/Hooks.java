@@ -1,19 +1,164 @@
 package com.automation.hooks;
 
+import com.automation.assertions.SchemaRegistry;
+import com.automation.cassette.CassetteMode;
 import com.automation.config.ConfigManager;
-import org.junit.Before;
+import com.automation.context.ScenarioContext;
+import com.automation.metrics.BaselineComparison;
+import com.automation.metrics.MetricsRegistry;
+import com.automation.metrics.PerformanceBaseline;
+import com.automation.metrics.StartupTimer;
+import com.automation.reporting.ReportingQueue;
+import com.automation.resilience.Deadline;
+import com.automation.utils.ExchangeLogBuffer;
+import com.automation.utils.LogManager;
+import com.aventstack.extentreports.gherkin.model.Feature;
+import com.aventstack.extentreports.gherkin.model.Then;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.aventstack.extentreports.service.ExtentService;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Hooks {
+private static final AtomicBoolean ANY_SCENARIO_FAILED = new AtomicBoolean();
 private static ConfigManager configManager;
-Hooks(){
+public Hooks(){
     configManager=ConfigManager.getInstance();
 }
 
-@Before
-public void setUp(){
+@BeforeAll
+public static void beforeAll(){
+    if (ConfigManager.getInstance().isSchemaPreloadEnabled()) {
+        SchemaRegistry.getInstance();
+    }
+}
+
+@AfterAll
+public static void afterAll(){
+    if (StartupTimer.timeToFirstRequestMillis() != null) {
+        Path exported = StartupTimer.export(Paths.get(ConfigManager.getInstance().getStartupExportPath()));
+        LogManager.info("Time to first request: {} ms since JVM start (exported to {}):\n{}",
+                StartupTimer.timeToFirstRequestMillis(), exported, StartupTimer.summary());
+    }
+    if (SchemaRegistry.isLoaded() && !SchemaRegistry.getInstance().getTimings().isEmpty()) {
+        LogManager.info("JSON schema validation timings:\n{}", SchemaRegistry.getInstance().timingSummary());
+    }
+    if (!MetricsRegistry.getHistograms().isEmpty()) {
+        Path exported = MetricsRegistry.export(Paths.get(ConfigManager.getInstance().getMetricsExportPath()));
+        String summary = MetricsRegistry.summaryTable();
+        LogManager.info("Endpoint latencies (exported to {}):\n{}", exported, summary);
+        attachRunSummary("Endpoint latencies", summary);
+    }
+    if (isAsyncReporting()) {
+        ReportingQueue.getInstance().awaitDrained(60_000);
+        LogManager.info("Report writer: {}", ReportingQueue.getInstance().stats());
+    }
+    if (ConfigManager.getInstance().isPerfBaselineEnabled() && !MetricsRegistry.getHistograms().isEmpty()) {
+        checkPerformanceBaseline();
+    }
+}
+
+/**
+ * Compares this run's endpoint latencies with the stored baseline and fails the run on a p95/p99 regression.
+ * Only runs without failed scenarios or regressions are added to the baseline, so a bad run never becomes the norm.
+ * Runs replaying a cassette are skipped: their latencies are not those of the live service.
+ */
+private static void checkPerformanceBaseline(){
+    ConfigManager config = ConfigManager.getInstance();
+    Path file = Paths.get(config.getPerfBaselinePath());
+    if (CassetteMode.from(config.getCassetteMode()).replays()) {
+        LogManager.info("Cassette mode {}; performance baseline {} not checked or updated", config.getCassetteMode(), file);
+        return;
+    }
+    PerformanceBaseline baseline = PerformanceBaseline.load(file);
+    Map<String, PerformanceBaseline.RunSample> samples = PerformanceBaseline.samplesOf(MetricsRegistry.getHistograms(),
+            StartupTimer.millisSinceFirstRequest() / 1000.0);
+    BaselineComparison comparison = new BaselineComparison(baseline, samples, config.getPerfBaselineTolerancePercent(),
+            config.getPerfBaselineMinDeltaMs(), config.getPerfBaselineMaxZScore(), config.getPerfBaselineMinSamples(),
+            config.getPerfBaselineMinRuns());
+    LogManager.info("Performance against baseline {}:\n{}", file, comparison.toTable());
+    if (comparison.hasRegressions()) {
+        throw new AssertionError(comparison.getRegressions().size() + " latency regressions against baseline "
+                + file + " (baseline not updated):\n" + comparison.toTable());
+    }
+    if (ANY_SCENARIO_FAILED.get()) {
+        LogManager.info("Run had failed scenarios; performance baseline {} not updated", file);
+        return;
+    }
+    baseline.add(samples, config.getPerfBaselineWindow());
+    baseline.save(file);
+}
+
+/**
+ * Adds a run-wide text summary to the Allure and Extent reports as its own entry, since no scenario is
+ * running any more. Skipped with {@code report.mode=none}, where neither report is produced.
+ */
+private static void attachRunSummary(String name, String text){
+    if ("none".equalsIgnoreCase(ConfigManager.getInstance().getReportMode())) {
+        return;
+    }
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    String uuid = UUID.randomUUID().toString();
+    lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName(name).setFullName("Run summary: " + name)
+            .setHistoryId("run-summary-" + name).setStatus(Status.PASSED));
+    lifecycle.startTestCase(uuid);
+    lifecycle.addAttachment(name, "text/plain", ".txt", text.getBytes(StandardCharsets.UTF_8));
+    lifecycle.stopTestCase(uuid);
+    lifecycle.writeTestCase(uuid);
+    // Runs before the Extent adapter's final flush, which writes this entry with the rest of the report
+    // Feature, scenario and step nodes, the shape the Extent PDF report requires
+    ExtentService.getInstance().createTest(Feature.class, name)
+            .createNode(com.aventstack.extentreports.gherkin.model.Scenario.class, "Run summary")
+            .createNode(Then.class, name + " of this run")
+            .pass(MarkupHelper.createCodeBlock(text));
+}
+
+private static boolean isAsyncReporting(){
+    return "async".equalsIgnoreCase(ConfigManager.getInstance().getReportMode());
+}
 
+@Before(order = 0)
+public void setUp(Scenario scenario){
+    StartupTimer.mark(StartupTimer.FIRST_SCENARIO);
+    ScenarioContext.begin(scenario);
+    ExchangeLogBuffer.clear();
+    Deadline.start(configManager.getScenarioDeadlineMs());
 }
 
+@After(order = 10)
+public void dumpExchangesOnFailure(Scenario scenario){
+    String exchanges = ExchangeLogBuffer.drain();
+    if (scenario.isFailed() && !exchanges.isEmpty()) {
+        LogManager.error("HTTP exchanges of failed scenario '{}':\n{}", scenario.getName(), exchanges);
+        scenario.attach(exchanges.getBytes(StandardCharsets.UTF_8), "text/plain", "HTTP exchanges");
+    }
+}
 
+@After(order = 1)
+public void recordOutcome(Scenario scenario){
+    if (scenario.isFailed()) {
+        ANY_SCENARIO_FAILED.set(true);
+    }
+}
+
+@After(order = 0)
+public void tearDown(){
+    Deadline.clear();
+    ScenarioContext.end();
+}
 
 }
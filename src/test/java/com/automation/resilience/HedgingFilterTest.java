@@ -0,0 +1,91 @@
+package com.automation.resilience;
+
+import com.automation.filters.ResponseTimes;
+import com.automation.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A GET whose call stalls gets hedged, and the duplicate's response comes back with its status and a
+ * response time covering the whole call.
+ */
+public class HedgingFilterTest {
+    private static final String PATH = "/hedging-filter-test";
+    private static final long HEDGE_AFTER_MILLIS = 50;
+
+    private final CountDownLatch releasePrimary = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(PATH, exchange -> {
+            // The duplicate goes out on the JDK client; anything else is the primary call, which stalls
+            String userAgent = exchange.getRequestHeaders().getFirst("User-Agent");
+            boolean hedged = userAgent != null && userAgent.startsWith("Java-http-client");
+            if (!hedged) {
+                awaitQuietly(releasePrimary);
+            }
+            byte[] bytes = ("{\"hedged\":" + hedged + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        for (int i = 0; i < 20; i++) {
+            MetricsRegistry.record("GET", PATH, TimeUnit.MILLISECONDS.toNanos(HEDGE_AFTER_MILLIS));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        releasePrimary.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void hedgeThatWinsCarriesItsResponseTime() {
+        HedgingFilter hedging = new HedgingFilter(50, 20, new RetryBudget(0.1, 10), 1000, 5000);
+        long hedgeAfterMillis = (long) MetricsRegistry.histogram("GET", PATH).getPercentileMillis(50);
+        long started = System.nanoTime();
+        Response response = RestAssured.given()
+                .baseUri("http://localhost:" + server.getAddress().getPort())
+                .filter(hedging)
+                .get(PATH);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        releasePrimary.countDown();
+
+        Assert.assertTrue(response.jsonPath().getBoolean("hedged"), "The hedge, not the stalled call, should answer");
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getStatusLine(), "HTTP/1.1 200");
+        Long millis = ResponseTimes.millisOf(response);
+        Assert.assertNotNull(millis, "Hedged response has no response time");
+        Assert.assertTrue(millis >= hedgeAfterMillis && millis <= elapsedMillis,
+                "Response time " + millis + " ms should include the " + hedgeAfterMillis + " ms hedge delay and stay within "
+                        + elapsedMillis + " ms");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
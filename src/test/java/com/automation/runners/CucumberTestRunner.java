@@ -1,23 +1,24 @@
 package com.automation.runners;
 
-import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
 import org.junit.runner.RunWith;
 
 /**
- * Cucumber Test Runner for BDD scenarios
+ * Cucumber Test Runner for BDD scenarios; runs one duration-balanced shard when -Dshard.total is above 1
  */
-@RunWith(Cucumber.class)
+@RunWith(ShardedCucumber.class)
 @CucumberOptions(
         features = "src/test/resources/features",
-        glue = {"com.automation.steps"},
+        glue = {"com.automation.steps", "com.automation.hooks"},
         tags = "@ReqresApiServices",
         plugin = {
                 "pretty",
                 "html:target/cucumber-reports/CucumberReport.html",
                 "json:target/cucumber.json",
                 "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
-                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:"
+                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
+                "com.automation.sharding.ScenarioHistoryPlugin",
+                "com.automation.profiling.JfrPlugin"
         },
         monochrome = true,
         publish = true
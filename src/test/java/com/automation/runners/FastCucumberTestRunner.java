@@ -0,0 +1,30 @@
+package com.automation.runners;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
+
+/**
+ * Startup-optimised runner for smoke and pre-commit runs (mvn test -Pfast, through testng-fast.xml): no
+ * HTML/JSON, Allure or Extent plugins are registered, nothing is published, and only the progress line is printed.
+ * Sharding and run modes apply as in {@link TestRunner}.
+ */
+@CucumberOptions(
+        features = "src/test/resources/features",
+        glue = {"com.automation.steps", "com.automation.hooks"},
+        tags = "@Smoke and not @Load",
+        plugin = {
+                "progress",
+                "com.automation.sharding.ScenarioHistoryPlugin"
+        },
+        monochrome = true,
+        publish = false
+)
+public class FastCucumberTestRunner extends AbstractTestNGCucumberTests {
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return TestRunner.selectScenarios(super.scenarios(), getClass().getAnnotation(CucumberOptions.class).tags());
+    }
+}
@@ -0,0 +1,83 @@
+package com.automation.runners;
+
+import com.automation.sharding.RunOrder;
+import com.automation.sharding.Shard;
+import com.automation.sharding.ShardPlanner;
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sortable;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import java.util.Comparator;
+
+/**
+ * JUnit runner that applies the scenario history around a {@link Cucumber} runner (which is final, so it is
+ * wrapped rather than extended): with {@code shard.total} > 1 or {@code run.mode=failed-only} it narrows the
+ * features to the selected scenarios, and with {@code run.mode=failed-first} it reorders them. JUnit keeps
+ * scenarios grouped by feature, so features are ordered by their highest-priority scenario.
+ * The per-shard JSON report comes from the {@code json:} plugin the Maven {@code shard} profile adds through
+ * {@code cucumber.plugin}.
+ */
+public class ShardedCucumber extends Runner implements Filterable, Sortable {
+    private final Cucumber delegate;
+
+    public ShardedCucumber(Class<?> clazz) throws InitializationError {
+        selectShard(clazz);
+        delegate = new Cucumber(clazz);
+        RunOrder order = RunOrder.forCurrentRun();
+        if (order != null) {
+            delegate.sort(new Sorter(failedFirst(order.byName())));
+        }
+    }
+
+    @Override
+    public Description getDescription() {
+        return delegate.getDescription();
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        delegate.run(notifier);
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        delegate.filter(filter);
+    }
+
+    @Override
+    public void sort(Sorter sorter) {
+        delegate.sort(sorter);
+    }
+
+    private static void selectShard(Class<?> clazz) {
+        CucumberOptions options = clazz.getAnnotation(CucumberOptions.class);
+        Shard shard = ShardPlanner.currentShard(System.getProperty("cucumber.filter.tags", options == null ? "" : options.tags()));
+        if (shard == null) {
+            return;
+        }
+        if (shard.scenarios().isEmpty()) {
+            System.setProperty("cucumber.filter.name", "^$");
+        } else {
+            System.setProperty("cucumber.features", String.join(",", shard.selectors()));
+        }
+    }
+
+    private static Comparator<Description> failedFirst(Comparator<String> byName) {
+        return Comparator.comparing(description -> leadingScenario(description, byName), byName);
+    }
+
+    private static String leadingScenario(Description description, Comparator<String> byName) {
+        if (description.isTest()) {
+            return description.getMethodName() != null ? description.getMethodName() : description.getDisplayName();
+        }
+        return description.getChildren().stream().map(child -> leadingScenario(child, byName)).min(byName).orElse("");
+    }
+}
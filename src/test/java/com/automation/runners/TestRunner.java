@@ -1,17 +1,64 @@
 package com.automation.runners;
+import com.automation.sharding.RunOrder;
+import com.automation.sharding.ScenarioHistory;
+import com.automation.sharding.Shard;
+import com.automation.sharding.ShardPlanner;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.annotations.DataProvider;
+
+import java.util.Arrays;
+import java.util.Comparator;
 
 @CucumberOptions(
         features = "src/test/resources/features",
-        glue = {"com.automation.steps"},
+        glue = {"com.automation.steps", "com.automation.hooks"},
 //        tags = "@smoke or @regression",
+        tags = "not @Load and not @Fuzz",
         plugin = { "pretty",
                 "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
-                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:" },
+                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
+                "com.automation.sharding.ScenarioHistoryPlugin",
+                "com.automation.profiling.JfrPlugin" },
         monochrome = true
 )
 public class TestRunner extends AbstractTestNGCucumberTests {
 
+    /**
+     * Runs scenarios concurrently; the pool size comes from the suite's data-provider-thread-count
+     * (or -Ddataproviderthreadcount through surefire). The scenario history narrows them to one shard
+     * (-Dshard.total above 1, reported to target/cucumber-shards/ by the shard profile) or to the previously
+     * failed ones (-Drun.mode=failed-only), and
+     * -Drun.mode=failed-first starts failed, then fast scenarios first.
+     */
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return selectScenarios(super.scenarios(), getClass().getAnnotation(CucumberOptions.class).tags());
+    }
+
+    /**
+     * Narrows and orders the scenario rows for the current shard and run mode; shared with
+     * {@link FastCucumberTestRunner}.
+     */
+    static Object[][] selectScenarios(Object[][] scenarios, String tags) {
+        Shard shard = ShardPlanner.currentShard(System.getProperty("cucumber.filter.tags", tags));
+        if (shard != null) {
+            scenarios = Arrays.stream(scenarios).filter(row -> {
+                PickleWrapper pickle = (PickleWrapper) row[0];
+                return shard.contains(ScenarioHistory.featurePath(pickle.getPickle().getUri()), pickle.getPickle().getScenarioLine());
+            }).toArray(Object[][]::new);
+        }
+        RunOrder order = RunOrder.forCurrentRun();
+        if (order != null) {
+            Arrays.sort(scenarios, Comparator.comparing(TestRunner::historyKey, order.byKey()));
+        }
+        return scenarios;
+    }
 
+    private static String historyKey(Object[] row) {
+        PickleWrapper pickle = (PickleWrapper) row[0];
+        return ScenarioHistory.key(ScenarioHistory.featurePath(pickle.getPickle().getUri()), pickle.getPickle().getName());
+    }
 }
@@ -0,0 +1,49 @@
+package com.automation.steps;
+
+import com.automation.clients.ApiClient;
+import com.automation.config.ConfigManager;
+import com.automation.constants.EndPoints;
+import com.automation.context.ScenarioContext;
+import com.automation.fuzz.FuzzEngine;
+import com.automation.fuzz.FuzzReport;
+import com.automation.fuzz.FuzzTarget;
+import com.automation.models.AuthRequest;
+import com.automation.models.Post;
+import com.automation.utils.LogManager;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.testng.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class FuzzStepDef {
+
+    private FuzzReport fuzzReport;
+
+    @When("I fuzz the POST endpoints with {int} payloads each")
+    public void iFuzzThePostEndpointsWithPayloadsEach(int casesPerTarget) {
+        ConfigManager configManager = ConfigManager.getInstance();
+        int cases = configManager.getFuzzCasesPerTarget(casesPerTarget);
+
+        Post post = new Post(1, "fuzz title", "fuzz body");
+        post.setId(1);
+        AuthRequest credentials = new AuthRequest("eve.holt@reqres.in", "cityslicka");
+        List<FuzzTarget> targets = List.of(
+                FuzzTarget.of(EndPoints.CREATE_USER, post, "schemas/post-schema.json"),
+                FuzzTarget.of(EndPoints.REGISTER_SUCCESS, credentials),
+                FuzzTarget.of(EndPoints.LOG_IN, credentials));
+        fuzzReport = new FuzzEngine(ApiClient.getInstance().getAsyncClient(), configManager.getFuzzMaxPayloadBytes(),
+                configManager.getFuzzConcurrency(), configManager.getFuzzMinimizeAttempts())
+                .run(targets, cases, configManager.getFuzzSeed());
+        LogManager.info("Fuzz run finished:\n" + fuzzReport.toTable());
+    }
+
+    @Then("the fuzzing should find no server errors, timeouts or dropped connections")
+    public void theFuzzingShouldFindNoServerErrorsTimeoutsOrDroppedConnections() {
+        String table = fuzzReport.toTable();
+        ScenarioContext.current().getScenario().attach(table.getBytes(StandardCharsets.UTF_8), "text/plain", "Fuzz report");
+        Assert.assertFalse(fuzzReport.hasFindings(), fuzzReport.getFindings().size()
+                + " distinct fuzz findings (rerun with -Dfuzz.seed=" + fuzzReport.getSeed() + ")\n" + table);
+    }
+}
@@ -0,0 +1,49 @@
+package com.automation.steps;
+
+import com.automation.clients.ApiClient;
+import com.automation.config.ConfigManager;
+import com.automation.load.FeatureScenarioParser;
+import com.automation.load.LoadReport;
+import com.automation.load.OpenModelLoadGenerator;
+import com.automation.load.WorkloadMix;
+import com.automation.utils.LogManager;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.testng.Assert;
+
+import java.nio.file.Paths;
+
+public class LoadStepDef {
+
+    private LoadReport loadReport;
+
+    @When("I run the {string} workload at {int} requests per second for {int} seconds")
+    public void iRunTheWorkloadAtRequestsPerSecondForSeconds(String mix, int requestsPerSecond, int durationSeconds) {
+        ConfigManager configManager = ConfigManager.getInstance();
+        String workloadMix = configManager.getProperty("load.mix", mix);
+        double rate = Double.parseDouble(configManager.getProperty("load.rate", String.valueOf(requestsPerSecond)));
+        long duration = Long.parseLong(configManager.getProperty("load.duration.seconds", String.valueOf(durationSeconds)));
+
+        LogManager.info("Building workload " + workloadMix + " from " + configManager.getFeaturesPath());
+        WorkloadMix workload = WorkloadMix.fromScenarios(
+                new FeatureScenarioParser().parseDirectory(Paths.get(configManager.getFeaturesPath())), workloadMix);
+        loadReport = new OpenModelLoadGenerator(workload, configManager.getLoadMaxInFlight()).run(rate, duration);
+        LogManager.info("HTTP connection pool after load run: " + ApiClient.getInstance().getConnectionPoolStats());
+    }
+
+    @Then("the load error rate should be below {double} percent")
+    public void theLoadErrorRateShouldBeBelowPercent(double maxErrorRate) {
+        LogManager.info("Validating load error rate below " + maxErrorRate + "%");
+        Assert.assertTrue(loadReport.getErrorRatePercent() < maxErrorRate,
+                "Error rate " + loadReport.getErrorRatePercent() + "% exceeded " + maxErrorRate + "%\n" + loadReport.toTable());
+    }
+
+    @Then("the p{double} latency of {string} under load should be below {long} ms")
+    public void thePercentileLatencyUnderLoadShouldBeBelowMs(double percentile, String endpoint, long maxMillis) {
+        LoadReport.EndpointStats stats = loadReport.getEndpoints().get(endpoint);
+        Assert.assertNotNull(stats, "No load samples recorded for " + endpoint);
+        double actual = stats.getHistogram().getPercentileMillis(percentile);
+        Assert.assertTrue(actual < maxMillis,
+                "p" + percentile + " of " + endpoint + " was " + actual + " ms\n" + loadReport.toTable());
+    }
+}
@@ -0,0 +1,8 @@
+@Fuzz
+Feature: Negative-payload fuzzing of the POST endpoints
+  Cases, concurrency and seed can be overridden with -Dfuzz.cases.per.target, -Dfuzz.concurrency and -Dfuzz.seed
+
+  @FuzzPostEndpoints
+  Scenario: Malformed, oversized, deeply nested and type-confused payloads are rejected cleanly
+    When I fuzz the POST endpoints with 1000 payloads each
+    Then the fuzzing should find no server errors, timeouts or dropped connections
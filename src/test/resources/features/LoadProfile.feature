@@ -0,0 +1,9 @@
+@Load
+Feature: Open-model load profiles built from the tagged ReqRes scenarios
+  Rate and duration can be overridden with -Dload.rate and -Dload.duration.seconds
+
+  @LoadRegressionMix
+  Scenario: Regression and smoke mix under sustained load
+    When I run the "@Regression:3,@Smoke:1" workload at 50 requests per second for 10 seconds
+    Then the load error rate should be below 1.0 percent
+    And the p95 latency of "GET users/2" under load should be below 1000 ms
@@ -12,6 +12,14 @@ Feature: ReqRes API Comprehensive Test Coverage
     Then I should receive a response with status code 200
     And the response should contain a non-empty list of users
     And the response should contain minimum of 12 fields
+    And the response should match schema "user-list-schema.json"
+
+  @UserPagination @Regression
+  Scenario: Page through every user in the collection
+    When I page through all users 4 per page
+    Then every user should have been returned exactly once
+    And every user in the collection should have a non-empty "email"
+    And every user in the collection should have a non-empty "avatar"
 
   @GetSingleUser
   Scenario: Single User
@@ -19,12 +27,36 @@ Feature: ReqRes API Comprehensive Test Coverage
     Then I should receive a response with status code 200
     And the response should contain user with id 2
     And the response should contain field "email" and value "janet.weaver@reqres.in"
+    And the response should contain the following fields:
+      | data.first_name | Janet  |
+      | data.last_name  | Weaver |
+    And the response should match schema "single-user-schema.json"
 
   @NegativeUserNotFound
   Scenario: Single User Not Found
     When I send GET request to "users/23" endpoint
     Then I should receive a response with status code 404
 
+  @ConcurrentRequests
+  Scenario: Fetch a single user with concurrent non-blocking requests
+    When I send 5 concurrent GET requests to "users/2" endpoint
+    Then every concurrent response should have status code 200
+
+  @AuthTokenCache @Regression
+  Scenario: Concurrent authenticated requests share one cached login
+    Given I note the logins sent so far for "eve.holt@reqres.in" with password "cityslicka"
+    When I send 20 concurrent authenticated GET requests to "users/2" as "eve.holt@reqres.in" with password "cityslicka"
+    Then every concurrent response should have status code 200
+    And at most 1 new login request should have been sent for "eve.holt@reqres.in" with password "cityslicka"
+
+  @AuthTokenCache
+  Scenario: The token from a registration is reused without logging in
+    Given I register as "eve.holt@reqres.in" with password "pistol"
+    And I note the logins sent so far for "eve.holt@reqres.in" with password "pistol"
+    When I send an authenticated GET request to "users/2" as "eve.holt@reqres.in" with password "pistol"
+    Then I should receive a response with status code 200
+    And no new login request should have been sent for "eve.holt@reqres.in" with password "pistol"
+
   @CreateUsers @Regression
   Scenario: Create User
     When I send a POST request to CREATE user with the following data:
@@ -35,6 +67,21 @@ Feature: ReqRes API Comprehensive Test Coverage
     And POST or PUT response should contain field "name" and value "morpheus" in response body
     And POST or PUT response should contain field "job" and value "leader" in response body
 
+  @BulkCreateUsers @Regression
+  Scenario: Create every user in a data table
+    When I send POST requests to CREATE the following users concurrently:
+      | name     | job           |
+      | morpheus | leader        |
+      | trinity  | operator      |
+      | neo      | the one       |
+      | niobe    | captain       |
+    Then all responses should have status 201
+
+  @BulkCreateUsers
+  Scenario: Create users streamed from a data file
+    When I send a POST request to CREATE users from file "data/users.csv"
+    Then all responses should have status 201
+
   @UpdateUserDetails
   Scenario: Update User
     When I send a PUT request to CREATE user with the following data:
@@ -97,3 +144,7 @@ Feature: ReqRes API Comprehensive Test Coverage
       """
     Then I should receive a response with status code 201
     And the response time should be less than 500 ms
+
+    @LatencySLA @Regression
+  Scenario: Single user endpoint meets its p95 latency SLA
+    Then the p95 latency of "users/2" over 20 requests should be below 800 ms